@@ -31,7 +31,7 @@ import org.jetbrains.annotations.Nullable;
  * @since 1.0
  */
 public interface Board {
-    
+
     /**
      * Sets the title of the scoreboard using an Adventure Component.
      * <p>
@@ -377,6 +377,63 @@ public interface Board {
      */
     void removeLine(int row);
     
+    /**
+     * Pins a row so it keeps its full refresh rate when the server falls behind.
+     * <p>
+     * When adaptive cadence is enabled in the ScoreFX configuration and the server's average
+     * tick time rises, animations and placeholder refreshes are slowed down to reduce load.
+     * Pinned rows are exempt, which is useful for critical information such as a countdown.
+     * Rows are not pinned by default.
+     * </p>
+     *
+     * @param row the row number (1-15), must be within valid range
+     * @param pinned true to keep the row at full cadence, false to allow it to slow down
+     * @throws IllegalArgumentException if row is not between 1 and 15
+     * @throws IllegalStateException if called from a non-main thread
+     * @since 2.1.0
+     */
+    void setLinePinned(int row, boolean pinned);
+    
+    /**
+     * Checks whether a row is pinned to its full refresh rate.
+     *
+     * @param row the row number (1-15), must be within valid range
+     * @return true if the row is pinned
+     * @throws IllegalArgumentException if row is not between 1 and 15
+     * @see #setLinePinned(int, boolean)
+     * @since 2.1.0
+     */
+    boolean isLinePinned(int row);
+    
+    /**
+     * Sets how important a row is when the board's packet budget runs out.
+     * <p>
+     * When a packet budget is enabled in the ScoreFX configuration, each board may only send
+     * a limited number of packets and bytes per second. Changed rows and the title are then
+     * sent highest priority first; rows that do not fit skip frames and show their latest
+     * text once the budget allows. Rows without a priority of their own use the configured
+     * default (0 unless set). Has no effect while no budget is enabled.
+     * </p>
+     *
+     * @param row the row number (1-15), must be within valid range
+     * @param priority the row's priority, higher values are sent first
+     * @throws IllegalArgumentException if row is not between 1 and 15
+     * @throws IllegalStateException if called from a non-main thread
+     * @since 2.1.0
+     */
+    void setLinePriority(int row, int priority);
+    
+    /**
+     * Gets a row's priority under the packet budget.
+     *
+     * @param row the row number (1-15), must be within valid range
+     * @return the row's own priority, or the configured default if none was set
+     * @throws IllegalArgumentException if row is not between 1 and 15
+     * @see #setLinePriority(int, int)
+     * @since 2.1.0
+     */
+    int getLinePriority(int row);
+    
     /**
      * Gets the player who owns this scoreboard.
      *
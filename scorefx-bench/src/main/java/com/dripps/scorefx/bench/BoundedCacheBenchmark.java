@@ -0,0 +1,99 @@
+package com.dripps.scorefx.bench;
+
+import com.dripps.scorefx.util.BoundedCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures a {@link BoundedCache} lookup with and without frequency admission.
+ * <p>
+ * A hit is a map read plus, with admission, a {@code FrequencySketch} increment. A miss on
+ * a full cache loads the value and, with admission, runs {@code admit()} under the eviction
+ * lock; without it, the value is inserted and {@code evict()} takes the same lock. The
+ * contended variants run the same lookups on four threads at once.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoundedCacheBenchmark {
+
+    private static final int CACHE_SIZE = 4096;
+    private static final int HOT_KEYS = 1024; // All cached
+    private static final int COLD_KEYS = 1 << 16; // 16x the cache, so nearly every lookup misses
+    private static final Function<String, String> LOADER = key -> key;
+    
+    @Param({"true", "false"})
+    public boolean frequencyAdmission;
+    
+    private BoundedCache<String, String> cache;
+    private String[] hotKeys;
+    private String[] coldKeys;
+    
+    /** Each thread walks the keys from its own position. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+    
+    @Setup
+    public void setUp() {
+        cache = new BoundedCache<>(CACHE_SIZE, frequencyAdmission);
+        hotKeys = new String[HOT_KEYS];
+        coldKeys = new String[COLD_KEYS];
+        for (int i = 0; i < HOT_KEYS; i++) {
+            hotKeys[i] = "&6hot line " + i;
+        }
+        for (int i = 0; i < COLD_KEYS; i++) {
+            coldKeys[i] = "&7cold line " + i;
+        }
+        
+        // Fill the cache: hot keys first, then cold ones until it is full
+        for (String key : hotKeys) {
+            cache.get(key, LOADER);
+        }
+        for (int i = 0; cache.size() < CACHE_SIZE && i < COLD_KEYS; i++) {
+            cache.get(coldKeys[i], LOADER);
+        }
+    }
+    
+    @Benchmark
+    public String hit(Cursor cursor) {
+        return cache.get(hotKeys[cursor.next++ & (HOT_KEYS - 1)], LOADER);
+    }
+    
+    @Benchmark
+    public String miss(Cursor cursor) {
+        return cache.get(coldKeys[cursor.next++ & (COLD_KEYS - 1)], LOADER);
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public String hitContended(Cursor cursor) {
+        return cache.get(hotKeys[cursor.next++ & (HOT_KEYS - 1)], LOADER);
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public String missContended(Cursor cursor) {
+        return cache.get(coldKeys[cursor.next++ & (COLD_KEYS - 1)], LOADER);
+    }
+}
@@ -0,0 +1,71 @@
+package com.dripps.scorefx.bench;
+
+import com.dripps.scorefx.util.LegacySupport;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LegacySupport#toComponent(String)} against parsing every string.
+ * <p>
+ * {@code cachedHit} converts lines that are already cached, {@code cachedMiss} lines seen
+ * once each, like placeholder values that change every refresh, and {@code uncached}
+ * parses the hit lines with the same serializer and no cache, which is the cost the cache
+ * saves on a hit and adds to on a miss.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LegacySupportBenchmark {
+
+    private static final int LINES = 256; // Well within the cache
+    private static final LegacyComponentSerializer SERIALIZER = LegacyComponentSerializer.builder()
+            .hexColors()
+            .character('&')
+            .build(); // Same settings as LegacySupport
+    
+    private String[] lines;
+    private int next;
+    private long unique;
+    
+    @Setup
+    public void setUp() {
+        lines = new String[LINES];
+        for (int i = 0; i < LINES; i++) {
+            lines[i] = "&6&lKills: &#FF5733" + i + " &r&7(&a+" + (i % 10) + "&7)";
+            LegacySupport.toComponent(lines[i]);
+        }
+    }
+    
+    @Benchmark
+    public Component cachedHit() {
+        return LegacySupport.toComponent(lines[next++ & (LINES - 1)]);
+    }
+    
+    @Benchmark
+    public Component cachedMiss() {
+        return LegacySupport.toComponent("&6&lOnline: &#FF5733" + unique++);
+    }
+    
+    @Benchmark
+    public Component uncached() {
+        return SERIALIZER.deserialize(lines[next++ & (LINES - 1)]);
+    }
+}
@@ -2,15 +2,35 @@ package com.dripps.scorefx;
 
 import com.dripps.scorefx.animation.AnimationFactoryImpl;
 import com.dripps.scorefx.api.ScoreFX;
+import com.dripps.scorefx.board.BoardMode;
+import com.dripps.scorefx.board.LineRendering;
+import com.dripps.scorefx.board.PacketBudget;
+import com.dripps.scorefx.hook.AsyncPlaceholderResolver;
 import com.dripps.scorefx.hook.PAPIHook;
 import com.dripps.scorefx.listener.PlayerQuitListener;
+import com.dripps.scorefx.listener.PlayerRespawnListener;
 import com.dripps.scorefx.manager.BoardManagerImpl;
+import com.dripps.scorefx.scheduler.AdaptiveCadence;
 import com.dripps.scorefx.scheduler.Heartbeat;
+import com.dripps.scorefx.scheduler.PhaseStrategy;
+import com.dripps.scorefx.scheduler.PriorityTaskQueue;
+import com.dripps.scorefx.scheduler.TaskQueue;
+import com.dripps.scorefx.scheduler.TimingWheelTaskQueue;
+import com.dripps.scorefx.util.PacketHelper;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.ServicesManager;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Main plugin class for ScoreFX.
  * <p>
@@ -20,6 +40,7 @@ import org.bukkit.plugin.java.JavaPlugin;
  * <p>
  * <strong>Initialization Order (v2.0.0):</strong>
  * <ol>
+ *   <li>Load configuration</li>
  *   <li>Create PlaceholderAPI hook</li>
  *   <li>Create Heartbeat scheduler with PAPI hook</li>
  *   <li>Create AnimationFactory</li>
@@ -43,13 +64,15 @@ import org.bukkit.plugin.java.JavaPlugin;
  * @version 2.0.0-SNAPSHOT
  */
 public final class ScoreFXPlugin extends JavaPlugin {
-    
+
     private PAPIHook papiHook;
+    private AsyncPlaceholderResolver placeholderResolver;
+    private ForkJoinPool renderPool;
     private Heartbeat heartbeat;
     private BoardManagerImpl boardManager;
     private AnimationFactoryImpl animationFactory;
     private ScoreFXImpl apiImpl;
-
+    
     @Override
     public void onEnable() {
         // Plugin startup logic
@@ -61,13 +84,25 @@ public final class ScoreFXPlugin extends JavaPlugin {
         getLogger().info("Initializing ScoreFX...");
         
         try {
+            // 0. Load configuration (writes the default config.yml on first start)
+            saveDefaultConfig();
+            
             // 1. Create PlaceholderAPI hook
             getLogger().info("Initializing PlaceholderAPI hook...");
             papiHook = new PAPIHook(getLogger());
             
             // 2. Create Heartbeat scheduler
             getLogger().info("Creating Heartbeat scheduler...");
-            heartbeat = new Heartbeat(this, papiHook);
+            heartbeat = new Heartbeat(this, papiHook, createTaskQueue());
+            heartbeat.setTickBudgetNanos(Math.max(0L, getConfig().getLong("scheduler.tick-budget-nanos", 0L)));
+            heartbeat.setPhaseStrategy(readPhaseStrategy());
+            configureAdaptiveCadence();
+            configurePlaceholderResolver();
+            configureParallelRender();
+            configureSharedEncoding();
+            configureBatchedFlush();
+            configureEventLoopDispatch();
+            configurePacketBudget();
             
             // 3. Create AnimationFactory
             getLogger().info("Creating Animation factory...");
@@ -76,6 +111,7 @@ public final class ScoreFXPlugin extends JavaPlugin {
             // 4. Create BoardManager with Heartbeat reference
             getLogger().info("Creating Board manager...");
             boardManager = new BoardManagerImpl(heartbeat, getLogger());
+            configureBoardMode();
             
             // 5. Create ScoreFX API implementation
             getLogger().info("Creating API implementation...");
@@ -97,6 +133,10 @@ public final class ScoreFXPlugin extends JavaPlugin {
                 new PlayerQuitListener(boardManager, getLogger()),
                 this
             );
+            Bukkit.getPluginManager().registerEvents(
+                new PlayerRespawnListener(boardManager),
+                this
+            );
             
             // 8. Start Heartbeat
             getLogger().info("Starting Heartbeat scheduler...");
@@ -104,14 +144,14 @@ public final class ScoreFXPlugin extends JavaPlugin {
             
             getLogger().info("ScoreFX has been enabled successfully!");
             getLogger().info("API is now available via Bukkit Services Manager");
-            
+        
         } catch (Exception e) {
             getLogger().severe("Failed to initialize ScoreFX: " + e.getMessage());
             e.printStackTrace();
             Bukkit.getPluginManager().disablePlugin(this);
         }
     }
-
+    
     @Override
     public void onDisable() {
         // Plugin shutdown logic
@@ -130,19 +170,284 @@ public final class ScoreFXPlugin extends JavaPlugin {
                 heartbeat.stop();
             }
             
+            // 2b. Stop off-main placeholder resolution and the render pool (v2.1.0)
+            if (placeholderResolver != null) {
+                placeholderResolver.shutdown();
+            }
+            if (renderPool != null) {
+                renderPool.shutdown();
+            }
+            
             // 3. Unregister API service
             getLogger().info("Unregistering API service...");
             ServicesManager servicesManager = Bukkit.getServicesManager();
             servicesManager.unregisterAll(this);
             
             getLogger().info("ScoreFX has been disabled successfully!");
-            
+        
         } catch (Exception e) {
             getLogger().severe("Error during shutdown: " + e.getMessage());
             e.printStackTrace();
         }
     }
     
+    /**
+     * Creates the Heartbeat task queue selected by {@code scheduler.backend}.
+     *
+     * @return the configured task queue, or a timing wheel if the value is unknown
+     */
+    private TaskQueue createTaskQueue() {
+        String backend = getConfig().getString("scheduler.backend", "timing-wheel");
+        
+        return switch (backend.toLowerCase(Locale.ROOT)) {
+            case "timing-wheel" -> new TimingWheelTaskQueue();
+            case "priority-queue" -> {
+                getLogger().info("Using priority queue scheduler backend (fallback)");
+                yield new PriorityTaskQueue();
+            }
+            default -> {
+                getLogger().warning("Unknown scheduler backend '" + backend + "', using timing-wheel");
+                yield new TimingWheelTaskQueue();
+            }
+        };
+    }
+    
+    /**
+     * Reads {@code scheduler.phase-strategy}.
+     *
+     * @return the configured phase strategy, or least-loaded if the value is unknown
+     */
+    private PhaseStrategy readPhaseStrategy() {
+        String strategy = getConfig().getString("scheduler.phase-strategy", "least-loaded");
+        
+        return switch (strategy.toLowerCase(Locale.ROOT)) {
+            case "least-loaded" -> PhaseStrategy.LEAST_LOADED;
+            case "hash" -> PhaseStrategy.HASH;
+            case "none" -> PhaseStrategy.NONE;
+            default -> {
+                getLogger().warning("Unknown phase strategy '" + strategy + "', using least-loaded");
+                yield PhaseStrategy.LEAST_LOADED;
+            }
+        };
+    }
+    
+    /**
+     * Applies {@code scheduler.adaptive} to the Heartbeat.
+     * <p>
+     * Invalid stages are skipped with a warning; if none are left, adaptive cadence stays off.
+     * </p>
+     */
+    private void configureAdaptiveCadence() {
+        if (!getConfig().getBoolean("scheduler.adaptive.enabled", false)) {
+            return;
+        }
+        if (heartbeat.isRegionThreaded()) {
+            getLogger().warning("Adaptive cadence is not available on Folia, ignoring scheduler.adaptive");
+            return;
+        }
+        
+        List<AdaptiveCadence.Stage> stages = new ArrayList<>();
+        for (Map<?, ?> entry : getConfig().getMapList("scheduler.adaptive.stages")) {
+            try {
+                stages.add(new AdaptiveCadence.Stage(
+                    Double.parseDouble(String.valueOf(entry.get("enter-mspt"))),
+                    Double.parseDouble(String.valueOf(entry.get("exit-mspt"))),
+                    Integer.parseInt(String.valueOf(entry.get("interval-multiplier")))
+                ));
+            } catch (IllegalArgumentException e) { // Includes NumberFormatException
+                getLogger().warning("Skipping invalid adaptive cadence stage " + entry + ": " + e.getMessage());
+            }
+        }
+        
+        if (stages.isEmpty()) {
+            getLogger().warning("No valid stages in scheduler.adaptive.stages, adaptive cadence disabled");
+            return;
+        }
+        
+        int checkInterval = Math.max(1, getConfig().getInt("scheduler.adaptive.check-interval-ticks", 20));
+        heartbeat.setAdaptiveCadence(new AdaptiveCadence(stages, checkInterval));
+        getLogger().info("Adaptive cadence enabled with " + stages.size() + " stage(s)");
+    }
+    
+    /**
+     * Applies {@code placeholders.async} to the Heartbeat.
+     */
+    private void configurePlaceholderResolver() {
+        if (!getConfig().getBoolean("placeholders.async.enabled", false)) {
+            return;
+        }
+        if (heartbeat.isRegionThreaded()) {
+            getLogger().warning("Async placeholders are not available on Folia, ignoring placeholders.async");
+            return;
+        }
+        if (!papiHook.isAvailable()) {
+            getLogger().warning("Async placeholders are enabled but PlaceholderAPI is not installed");
+            return;
+        }
+        
+        List<String> expansions = getConfig().getStringList("placeholders.async.expansions");
+        if (expansions.isEmpty()) {
+            getLogger().warning("No expansions listed in placeholders.async.expansions, async placeholders disabled");
+            return;
+        }
+        
+        placeholderResolver = new AsyncPlaceholderResolver(papiHook, new HashSet<>(expansions), getLogger());
+        heartbeat.setPlaceholderResolver(placeholderResolver);
+        getLogger().info("Resolving placeholders of " + placeholderResolver.getAsyncExpansions() + " off the main thread");
+    }
+    
+    /**
+     * Applies {@code render} to the Heartbeat.
+     */
+    private void configureParallelRender() {
+        if (!getConfig().getBoolean("render.parallel", false)) {
+            return;
+        }
+        if (heartbeat.isRegionThreaded()) {
+            getLogger().warning("Parallel render is not used on Folia, boards already render on their region threads");
+            return;
+        }
+        
+        int parallelism = getConfig().getInt("render.parallelism", 0);
+        if (parallelism <= 0) {
+            parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        }
+        int threshold = Math.max(1, getConfig().getInt("render.parallel-threshold", 32));
+        
+        renderPool = new ForkJoinPool(parallelism);
+        heartbeat.setParallelRender(renderPool, threshold);
+        getLogger().info("Parallel render enabled (" + parallelism + " threads, threshold " + threshold + " boards)");
+    }
+    
+    /**
+     * Applies {@code render.shared-encoding} to the Heartbeat.
+     */
+    private void configureSharedEncoding() {
+        if (!getConfig().getBoolean("render.shared-encoding", false)) {
+            return;
+        }
+        if (!PacketHelper.isSharedEncodingSupported()) {
+            getLogger().warning("Shared encoding is not supported on this server, packets are encoded per player");
+            return;
+        }
+        
+        heartbeat.setSharedEncoding(true);
+        getLogger().info("Shared encoding enabled for shared animation frames");
+    }
+    
+    /**
+     * Applies {@code render.batched-flush} to the Heartbeat.
+     */
+    private void configureBatchedFlush() {
+        if (!getConfig().getBoolean("render.batched-flush", false)) {
+            return;
+        }
+        if (!PacketHelper.isBatchedFlushSupported()) {
+            getLogger().warning("Batched flushing is not supported on this server, every packet is flushed");
+            return;
+        }
+        
+        heartbeat.setBatchedFlush(true);
+        getLogger().info("Batched flushing enabled");
+    }
+    
+    /**
+     * Applies {@code render.event-loop-dispatch} to the Heartbeat.
+     */
+    private void configureEventLoopDispatch() {
+        if (!getConfig().getBoolean("render.event-loop-dispatch", false)) {
+            return;
+        }
+        if (!PacketHelper.isEventLoopDispatchSupported()) {
+            getLogger().warning("Event loop dispatch is not supported on this server, packets are sent from the tick");
+            return;
+        }
+        
+        heartbeat.setEventLoopDispatch(true);
+        getLogger().info("Event loop dispatch enabled");
+    }
+    
+    /**
+     * Applies {@code render.budget} to the Heartbeat.
+     * <p>
+     * Row priorities that are not numbers or not rows 1-15 are skipped with a warning.
+     * </p>
+     */
+    private void configurePacketBudget() {
+        if (!getConfig().getBoolean("render.budget.enabled", false)) {
+            return;
+        }
+        
+        Map<Integer, Integer> rowPriorities = new HashMap<>();
+        ConfigurationSection section = getConfig().getConfigurationSection("render.budget.row-priorities");
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                try {
+                    int row = Integer.parseInt(key);
+                    if (row < 1 || row > 15) {
+                        throw new IllegalArgumentException("row must be between 1 and 15");
+                    }
+                    rowPriorities.put(row, Integer.parseInt(String.valueOf(section.get(key))));
+                } catch (IllegalArgumentException e) { // Includes NumberFormatException
+                    getLogger().warning("Skipping invalid row priority " + key + ": " + e.getMessage());
+                }
+            }
+        }
+        
+        try {
+            heartbeat.setPacketBudget(new PacketBudget(
+                getConfig().getInt("render.budget.packets-per-second", 100),
+                getConfig().getInt("render.budget.bytes-per-second", 0),
+                getConfig().getInt("render.budget.title-priority", 0),
+                rowPriorities
+            ));
+        } catch (IllegalArgumentException e) {
+            getLogger().warning("Invalid render.budget, packet budget disabled: " + e.getMessage());
+            return;
+        }
+        getLogger().info("Packet budget enabled");
+    }
+    
+    /**
+     * Applies {@code board.mode} and {@code board.line-rendering} to the BoardManager.
+     * <p>
+     * {@code auto} picks virtual boards on Folia and team boards elsewhere. Virtual boards
+     * fall back to team boards if the server lacks the packets they need.
+     * </p>
+     */
+    private void configureBoardMode() {
+        String mode = getConfig().getString("board.mode", "auto");
+        
+        BoardMode boardMode = switch (mode.toLowerCase(Locale.ROOT)) {
+            case "auto" -> heartbeat.isRegionThreaded() ? BoardMode.VIRTUAL : BoardMode.TEAM;
+            case "team" -> BoardMode.TEAM;
+            case "virtual" -> BoardMode.VIRTUAL;
+            default -> {
+                getLogger().warning("Unknown board mode '" + mode + "', using auto");
+                yield heartbeat.isRegionThreaded() ? BoardMode.VIRTUAL : BoardMode.TEAM;
+            }
+        };
+        
+        if (boardMode == BoardMode.VIRTUAL && !PacketHelper.isVirtualBoardSupported()) {
+            getLogger().warning("Virtual boards are not supported on this server, using team boards");
+            boardMode = BoardMode.TEAM;
+        }
+        
+        boardManager.setBoardMode(boardMode);
+        getLogger().info("Using " + boardMode.name().toLowerCase(Locale.ROOT) + " boards");
+        
+        String rendering = getConfig().getString("board.line-rendering", "teams");
+        LineRendering lineRendering = switch (rendering.toLowerCase(Locale.ROOT)) {
+            case "teams" -> LineRendering.TEAMS;
+            case "score-display" -> LineRendering.SCORE_DISPLAY;
+            default -> {
+                getLogger().warning("Unknown line rendering '" + rendering + "', using teams");
+                yield LineRendering.TEAMS;
+            }
+        };
+        boardManager.setLineRendering(lineRendering);
+    }
+    
     /**
      * Gets the Heartbeat scheduler instance.
      * <p>
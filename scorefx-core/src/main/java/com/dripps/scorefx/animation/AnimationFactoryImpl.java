@@ -31,7 +31,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * @since 1.0
  */
 public final class AnimationFactoryImpl implements AnimationFactory {
-    
+
     // Animation cache for automatic sharing (v2.0.1)
     private final Map<AnimationKey, SharedAnimation> animationCache;
     
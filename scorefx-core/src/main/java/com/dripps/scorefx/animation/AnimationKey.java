@@ -21,7 +21,7 @@ import java.util.Objects;
  * @since 2.0.1
  */
 final class AnimationKey {
-    
+
     private final List<Component> frames;
     private final int intervalTicks;
     private final int hashCode;
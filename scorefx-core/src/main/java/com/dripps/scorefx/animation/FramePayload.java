@@ -0,0 +1,216 @@
+package com.dripps.scorefx.animation;
+
+import com.dripps.scorefx.util.ComponentLineSplitter;
+import com.dripps.scorefx.util.EncodedPacket;
+import com.dripps.scorefx.util.PacketHelper;
+import com.dripps.scorefx.util.PacketSender;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * One frame of a {@link SharedAnimation}, rendered once for every board that shows it.
+ * <p>
+ * Every board names its line teams, score entries and objective the same way, so the
+ * packets that show a frame on a given row are identical for all boards. The payload
+ * builds each part on first use: the prefix/suffix split, the team packet per row and the
+ * objective packet for titles, and with shared encoding their encoded bytes. Boards then
+ * send the same packet objects instead of splitting and converting the frame themselves.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> This class is thread-safe, so boards rendered in parallel
+ * can share it. A part may be built twice by racing threads; both results are equal.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class FramePayload {
+
+    private static final int ROWS = 16; // Rows 0-15, matching the boards' line teams
+    
+    private final Component frame;
+    private volatile ComponentLineSplitter.SplitResult split;
+    private final AtomicReferenceArray<Object> teamPackets; // index = row
+    private final AtomicReferenceArray<EncodedPacket> encodedTeamPackets; // index = row
+    private volatile Object titlePacket;
+    private volatile EncodedPacket encodedTitlePacket;
+    
+    /**
+     * Creates an empty payload for a frame. Nothing is rendered until it is needed.
+     *
+     * @param frame the frame, must not be null
+     */
+    public FramePayload(@NotNull Component frame) {
+        if (frame == null) {
+            throw new IllegalArgumentException("Frame cannot be null");
+        }
+        
+        this.frame = frame;
+        this.teamPackets = new AtomicReferenceArray<>(ROWS);
+        this.encodedTeamPackets = new AtomicReferenceArray<>(ROWS);
+    }
+    
+    /**
+     * Gets the frame this payload renders.
+     *
+     * @return the frame
+     */
+    @NotNull
+    public Component getFrame() {
+        return frame;
+    }
+    
+    /**
+     * Gets the frame split into a team prefix and suffix.
+     *
+     * @return the split frame
+     */
+    @NotNull
+    public ComponentLineSplitter.SplitResult getSplit() {
+        ComponentLineSplitter.SplitResult result = split;
+        if (result == null) {
+            result = ComponentLineSplitter.split(frame);
+            split = result;
+        }
+        return result;
+    }
+    
+    /**
+     * Keeps the NMS forms of everything boards convert for this frame cached: the frame
+     * itself, which titles and score display lines use, and the prefix and suffix that
+     * team packets are built from. Each call must be matched by {@link #unpin()}.
+     *
+     * @see PacketHelper#pinComponent
+     */
+    public void pin() {
+        ComponentLineSplitter.SplitResult result = getSplit();
+        PacketHelper.pinComponent(frame);
+        PacketHelper.pinComponent(result.prefix());
+        PacketHelper.pinComponent(result.suffix());
+    }
+    
+    /**
+     * Releases the pins taken by {@link #pin()}.
+     */
+    public void unpin() {
+        ComponentLineSplitter.SplitResult result = getSplit();
+        PacketHelper.unpinComponent(frame);
+        PacketHelper.unpinComponent(result.prefix());
+        PacketHelper.unpinComponent(result.suffix());
+    }
+    
+    /**
+     * Gets a team packet that sets both the prefix and the suffix of a row's team to this frame.
+     *
+     * @param row the row number (0-15)
+     * @param teamName the name of the row's team, the same on every board
+     * @param entry the row's score holder, the same on every board
+     * @return the packet, or null if team packets are not supported or it could not be built
+     */
+    @Nullable
+    public Object getTeamPacket(int row, @NotNull String teamName, @NotNull String entry) {
+        Object packet = teamPackets.get(row);
+        if (packet != null || !PacketHelper.isTeamPacketSupported()) {
+            return packet;
+        }
+        
+        // A detached team of its own, so no board's team state is touched
+        Object packetTeam = PacketHelper.createPacketTeam(teamName, entry);
+        if (packetTeam == null) {
+            return null;
+        }
+        
+        ComponentLineSplitter.SplitResult result = getSplit();
+        packet = PacketHelper.createTeamPacket(packetTeam, result.prefix(), result.suffix());
+        if (packet != null) {
+            teamPackets.compareAndSet(row, null, packet);
+        }
+        return packet;
+    }
+    
+    /**
+     * Gets the team packet of {@link #getTeamPacket}, encoded once so every board can write
+     * the same bytes to its player.
+     *
+     * @param row the row number (0-15)
+     * @param teamName the name of the row's team, the same on every board
+     * @param entry the row's score holder, the same on every board
+     * @param reference the sender of the board asking, whose connection encodes the packet
+     * @return the encoded packet, or null if shared encoding is unavailable or failed
+     * @see PacketHelper#encodePacket
+     */
+    @Nullable
+    public EncodedPacket getEncodedTeamPacket(
+        int row,
+        @NotNull String teamName,
+        @NotNull String entry,
+        @NotNull PacketSender reference
+    ) {
+        EncodedPacket encoded = encodedTeamPackets.get(row);
+        if (encoded != null) {
+            return encoded;
+        }
+        
+        Object packet = getTeamPacket(row, teamName, entry);
+        if (packet == null) {
+            return null;
+        }
+        
+        encoded = PacketHelper.encodePacket(reference, packet);
+        if (encoded != null && !encodedTeamPackets.compareAndSet(row, null, encoded)) {
+            encoded = encodedTeamPackets.get(row);
+        }
+        return encoded;
+    }
+    
+    /**
+     * Gets an objective packet that shows this frame as the title.
+     *
+     * @param objectiveName the name of the boards' sidebar objective
+     * @return the packet, or null if objective packets are not supported or it could not be built
+     */
+    @Nullable
+    public Object getTitlePacket(@NotNull String objectiveName) {
+        Object packet = titlePacket;
+        if (packet != null || !PacketHelper.isVirtualBoardSupported()) {
+            return packet;
+        }
+        
+        Object packetObjective = PacketHelper.createPacketObjective(objectiveName);
+        if (packetObjective == null) {
+            return null;
+        }
+        
+        packet = PacketHelper.createObjectivePacket(packetObjective, frame, PacketHelper.OBJECTIVE_CHANGE);
+        titlePacket = packet;
+        return packet;
+    }
+    
+    /**
+     * Gets the objective packet of {@link #getTitlePacket}, encoded once so every board can
+     * write the same bytes to its player.
+     *
+     * @param objectiveName the name of the boards' sidebar objective
+     * @param reference the sender of the board asking, whose connection encodes the packet
+     * @return the encoded packet, or null if shared encoding is unavailable or failed
+     * @see PacketHelper#encodePacket
+     */
+    @Nullable
+    public EncodedPacket getEncodedTitlePacket(@NotNull String objectiveName, @NotNull PacketSender reference) {
+        EncodedPacket encoded = encodedTitlePacket;
+        if (encoded != null) {
+            return encoded;
+        }
+        
+        Object packet = getTitlePacket(objectiveName);
+        if (packet == null) {
+            return null;
+        }
+        
+        encoded = PacketHelper.encodePacket(reference, packet);
+        encodedTitlePacket = encoded;
+        return encoded;
+    }
+}
@@ -23,8 +23,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @since 2.0.1
  */
 public final class SharedAnimation implements Animation {
-    
+
     private final List<Component> frames;
+    private final List<FramePayload> payloads; // v2.1.0: Same index as frames, rendered lazily
     private final int intervalTicks;
     
     // Shared frame counter - all boards using this animation see the same frame
@@ -41,6 +42,7 @@ public final class SharedAnimation implements Animation {
      */
     public SharedAnimation(@NotNull List<Component> frames, int intervalTicks) {
         this.frames = List.copyOf(frames);
+        this.payloads = this.frames.stream().map(FramePayload::new).toList();
         this.intervalTicks = intervalTicks;
         this.currentFrameIndex = new AtomicInteger(0);
         this.referenceCount = new AtomicInteger(0);
@@ -54,6 +56,19 @@ public final class SharedAnimation implements Animation {
         return frames.get(nextIndex);
     }
     
+    /**
+     * Advances to the next frame like {@link #nextFrame()}, but returns the frame's
+     * {@link FramePayload}, which every subscribing board shares.
+     *
+     * @return the payload of the next frame
+     * @since 2.1.0
+     */
+    @NotNull
+    public FramePayload nextPayload() {
+        int nextIndex = currentFrameIndex.getAndUpdate(i -> (i + 1) % frames.size());
+        return payloads.get(nextIndex);
+    }
+    
     @Override
     public int getIntervalTicks() {
         return intervalTicks;
@@ -64,7 +79,10 @@ public final class SharedAnimation implements Animation {
      * Called when a board starts using this animation.
      */
     public void addReference() {
-        referenceCount.incrementAndGet();
+        if (referenceCount.incrementAndGet() == 1) {
+            // v2.1.0: Every subscriber sends these frames, keep their NMS forms cached
+            payloads.forEach(FramePayload::pin);
+        }
     }
     
     /**
@@ -74,7 +92,12 @@ public final class SharedAnimation implements Animation {
      * @return true if there are no more references (animation can be cleaned up)
      */
     public boolean removeReference() {
-        return referenceCount.decrementAndGet() <= 0;
+        int remaining = referenceCount.decrementAndGet();
+        if (remaining == 0) {
+            // Pins are counted per key, so only release the ones addReference() took
+            payloads.forEach(FramePayload::unpin);
+        }
+        return remaining <= 0;
     }
     
     /**
@@ -23,7 +23,7 @@ import java.util.List;
  * @since 1.0
  */
 final class SimpleAnimation implements Animation {
-    
+
     private final List<Component> frames;
     private final int intervalTicks;
     private int currentFrameIndex;
@@ -0,0 +1,1644 @@
+package com.dripps.scorefx.board;
+
+import com.dripps.scorefx.api.Board;
+import com.dripps.scorefx.animation.FramePayload;
+import com.dripps.scorefx.api.animation.Animation;
+import com.dripps.scorefx.hook.PAPIHook;
+import com.dripps.scorefx.scheduler.Heartbeat;
+import com.dripps.scorefx.scheduler.UpdateTask;
+import com.dripps.scorefx.util.ComponentLineSplitter;
+import com.dripps.scorefx.util.LegacySupport;
+import com.dripps.scorefx.util.LineSplitter;
+import com.dripps.scorefx.util.PacketHelper;
+import com.dripps.scorefx.util.PacketSender;
+import com.dripps.scorefx.util.RegionSupport;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base class of the {@link Board} implementations, holding everything that does not depend
+ * on how a board reaches the client.
+ * <p>
+ * A board shows an objective on the sidebar with one score entry per line (rows 1-15). Each
+ * entry belongs to its own team, and the line text is the team's prefix and suffix, which
+ * gives flicker-free updates. This class keeps the board's model (lines, custom scores,
+ * animations, pending updates and what the client last received) and turns changes into
+ * packets; subclasses decide how the objective, the title and the teams are created and
+ * updated:
+ * <ul>
+ *   <li>{@link TeamBoardImpl} - backed by a Bukkit {@code Scoreboard} with real teams</li>
+ *   <li>{@link VirtualBoardImpl} - packets only, without server-side scoreboard state</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Adventure-First Architecture (v1.1.0+):</strong> Internally, all text is processed
+ * as Adventure Components. Legacy String-based methods are converted to Components via
+ * {@link LegacySupport} at the API boundary.
+ * </p>
+ * <p>
+ * <strong>Update Diffing (v2.1.0):</strong> The board remembers what it last sent for the
+ * title and for each row (prefix, suffix and custom score). Updates that match what the
+ * client already shows send no packets and are counted by the {@link Heartbeat}. Where the
+ * server supports it and the board {@link #sendsTeamPackets() sends team packets}, a row's
+ * prefix and suffix are sent together as a single team packet (see
+ * {@link PacketHelper#createTeamPacket}).
+ * </p>
+ * <p>
+ * <strong>Line Rendering (v2.1.0):</strong> With {@link LineRendering#SCORE_DISPLAY} a line's
+ * text is sent as the display component of its score instead, so a changed line costs one
+ * score packet, lines are never split and the board needs no teams.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> All methods that modify state must be called from the main thread.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public abstract class AbstractBoard implements Board {
+
+    protected static final int MAX_LINES = 15;
+    public static final String OBJECTIVE_NAME = "scorefx_board";
+    protected static final String TEAM_PREFIX = "sfx_line_";
+    private static final int TITLE_ROW = -1; // Special row number for title
+    private static final ComponentLineSplitter.SplitResult EMPTY_SPLIT =
+        new ComponentLineSplitter.SplitResult(Component.empty(), Component.empty());
+    
+    private final Player player;
+    private final Map<Integer, String> entries; // Stores the entry string for each line
+    private final Heartbeat heartbeat;
+    
+    // Animation tracking
+    private final Map<Integer, Animation> activeAnimations; // row -> animation (or TITLE_ROW for title)
+    private Animation titleAnimation;
+    
+    // Custom score tracking (v1.2.0)
+    private final Map<Integer, Component> customScores; // row -> custom score component
+    
+    // Batching (v2.0.1) - Queue updates and flush at tick end for better performance
+    private final Map<Integer, Component> pendingLineUpdates; // row -> pending component update
+    private Component pendingTitleUpdate; // null = no pending title update
+    
+    // Shared frames (v2.1.0) - Payload of a pending update that came from a SharedAnimation
+    private final FramePayload[] pendingPayloads; // index = row
+    private FramePayload pendingTitlePayload;
+    
+    // Render/commit split (v2.1.0) - Filled by render(), sent by commit(); index = row
+    private final ComponentLineSplitter.SplitResult[] renderedSplits;
+    private final Object[] renderedTeamPackets;
+    private final FramePayload[] renderedPayloads; // Shared frame a rendered team packet came from
+    private final Object[] renderedScorePackets;
+    private final int[] renderedRows;
+    private int renderedRowCount;
+    private final Component[] renderedScores; // Custom score each rendered packet carries
+    private Component renderedTitle;
+    private FramePayload renderedTitlePayload;
+    
+    // Last-sent state (v2.1.0) - What the client currently shows; index = row
+    private final Component[] lastLines; // Unsplit line last rendered or applied
+    private final int[] lastLineHashes;
+    private final Component[] sentPrefixes;
+    private final Component[] sentSuffixes;
+    private final Component[] sentScores; // null = hidden score
+    private final boolean[] scoreSent; // false until the row's score entry exists on the client
+    private Component sentTitle;
+    private int skippedUpdates; // Since the last commit, reported to the Heartbeat
+    private final Object[] packetTeams; // Detached NMS teams for team packets, created on first use
+    private final boolean[] packetTeamStale; // The row's last team packet came from a FramePayload
+    private final LineRendering lineRendering;
+    
+    // Bundling (v2.1.0) - Packets sent during a commit, delivered together afterwards
+    private final List<Object> commitPackets;
+    private boolean committing;
+    
+    // Transport (v2.1.0) - The player's connection, resolved on first send
+    private PacketSender sender;
+    private boolean unflushed; // Packets written without a flush, see flushConnection()
+    
+    // Dirty tracking (v2.1.0) - Intrusive link into the Heartbeat's list of boards to flush
+    private boolean dirty;
+    private AbstractBoard nextDirty;
+    
+    // Visibility tracking (v2.0.1) - Skip updates when board is hidden
+    private boolean visible;
+    
+    // Pinned rows (v2.1.0) - Bit n set = row n keeps full cadence while the server is behind
+    private int pinnedRows;
+    
+    // Packet budget (v2.1.0) - Created on the first flush after the Heartbeat gets a budget
+    private PacketBudget.Bucket budgetBucket;
+    private final int[] linePriorities; // index = row, only for rows in customPriorityRows
+    private int customPriorityRows; // Bit n set = row n overrides the budget's default priority
+    private int[] priorityOrder; // Title and rows in flush order, null = not computed yet
+    private int budgetDeferred; // Updates held back since the last commit
+    
+    private boolean destroyed;
+    
+    /**
+     * Initializes the board model for the specified player. Subclasses create the
+     * objective and, if {@link #usesTeams()}, the teams on the client.
+     *
+     * @param player the player who owns this board, must not be null
+     * @param heartbeat the Heartbeat scheduler for task scheduling, must not be null
+     * @param lineRendering where the text of lines goes, must not be null
+     */
+    protected AbstractBoard(
+        @NotNull Player player,
+        @NotNull Heartbeat heartbeat,
+        @NotNull LineRendering lineRendering
+    ) {
+        if (lineRendering == null) {
+            throw new IllegalArgumentException("Line rendering cannot be null");
+        }
+        
+        this.player = player;
+        this.lineRendering = lineRendering;
+        this.commitPackets = new ArrayList<>();
+        this.committing = false;
+        this.heartbeat = heartbeat;
+        this.entries = new HashMap<>();
+        this.activeAnimations = new HashMap<>();
+        this.titleAnimation = null;
+        this.customScores = new ConcurrentHashMap<>();
+        this.pendingLineUpdates = new HashMap<>();
+        this.pendingTitleUpdate = null;
+        this.pendingPayloads = new FramePayload[MAX_LINES + 1];
+        this.renderedSplits = new ComponentLineSplitter.SplitResult[MAX_LINES + 1];
+        this.renderedTeamPackets = new Object[MAX_LINES + 1];
+        this.renderedPayloads = new FramePayload[MAX_LINES + 1];
+        this.renderedScorePackets = new Object[MAX_LINES + 1];
+        this.renderedRows = new int[MAX_LINES];
+        this.renderedRowCount = 0;
+        this.renderedScores = new Component[MAX_LINES + 1];
+        this.renderedTitle = null;
+        this.lastLines = new Component[MAX_LINES + 1];
+        this.lastLineHashes = new int[MAX_LINES + 1];
+        this.sentPrefixes = new Component[MAX_LINES + 1];
+        this.sentSuffixes = new Component[MAX_LINES + 1];
+        this.sentScores = new Component[MAX_LINES + 1];
+        this.scoreSent = new boolean[MAX_LINES + 1];
+        this.sentTitle = Component.empty();
+        this.skippedUpdates = 0;
+        this.packetTeams = new Object[MAX_LINES + 1];
+        this.packetTeamStale = new boolean[MAX_LINES + 1];
+        this.dirty = false;
+        this.nextDirty = null;
+        this.visible = true; // Visible by default
+        this.pinnedRows = 0;
+        this.budgetBucket = null;
+        this.linePriorities = new int[MAX_LINES + 1];
+        this.customPriorityRows = 0;
+        this.priorityOrder = null;
+        this.budgetDeferred = 0;
+        this.destroyed = false;
+        
+        // Create a unique entry for each line (0-15, where 0 is unused but reserved)
+        for (int i = 0; i <= MAX_LINES; i++) {
+            entries.put(i, generateEntry(i));
+        }
+    }
+    
+    /**
+     * Generates a unique entry string for a scoreboard line.
+     * <p>
+     * Each line needs a unique entry (the actual score holder). We use
+     * invisible/formatting codes to create unique strings that won't be visible.
+     * </p>
+     *
+     * @param lineNumber the line number (0-15)
+     * @return a unique entry string
+     */
+    @NotNull
+    private static String generateEntry(int lineNumber) {
+        // Use § codes to create invisible unique entries
+        // §r resets formatting, and we can chain invisible characters
+        return "§" + Integer.toHexString(lineNumber) + "§r";
+    }
+    
+    @Override
+    public void setTitle(@NotNull Component title) {
+        checkMainThread();
+        
+        if (title == null) {
+            throw new IllegalArgumentException("Title cannot be null");
+        }
+        
+        // Cancel any existing title animation
+        cancelTitleAnimation();
+        
+        // Set the title directly using the Component
+        applyTitle(title);
+        
+        // Note: PlaceholderAPI is not supported for Component-based content
+        // If placeholders are needed, use the legacy String-based method
+    }
+    
+    @Override
+    public void setTitle(@NotNull String title) {
+        checkMainThread();
+        
+        if (title == null) {
+            throw new IllegalArgumentException("Title cannot be null");
+        }
+        
+        // Cancel any existing title animation
+        cancelTitleAnimation();
+        
+        // Convert legacy String to Component (Adventure-First)
+        Component titleComponent = LegacySupport.toComponent(title);
+        
+        // Set the title using the Component method
+        applyTitle(titleComponent);
+        
+        // If the title contains placeholders, schedule periodic updates
+        if (PAPIHook.hasPlaceholders(title)) {
+            scheduleRecurringTitleUpdate(title, 20); // Update every second by default
+        }
+    }
+    
+    @Override
+    public void setAnimatedTitle(@NotNull Animation titleAnimation) {
+        checkMainThread();
+        
+        if (titleAnimation == null) {
+            throw new IllegalArgumentException("Title animation cannot be null");
+        }
+        
+        // Cancel any existing title animation
+        cancelTitleAnimation();
+        
+        // Store the animation
+        this.titleAnimation = titleAnimation;
+        this.activeAnimations.put(TITLE_ROW, titleAnimation);
+        
+        // v2.0.1: Track reference for SharedAnimation
+        if (titleAnimation instanceof com.dripps.scorefx.animation.SharedAnimation sharedAnimation) {
+            sharedAnimation.addReference();
+        }
+        
+        // Schedule the animation task with the Heartbeat
+        UpdateTask task = new UpdateTask(
+            UpdateTask.TaskType.TITLE_ANIMATION,
+            player.getUniqueId(),
+            heartbeat.getCurrentTick() + titleAnimation.getIntervalTicks(),
+            TITLE_ROW,
+            "", // Text not used for animations (animation provides frames)
+            titleAnimation.getIntervalTicks()
+        );
+        
+        heartbeat.scheduleTask(task);
+        
+        // Immediately show the first frame (now returns Component)
+        Component firstFrame = titleAnimation.nextFrame();
+        updateTitleDirect(firstFrame);
+        
+        // Re-register the animation since updateTitleDirect doesn't cancel it
+        // (but we need to ensure it's tracked)
+        this.titleAnimation = titleAnimation;
+        this.activeAnimations.put(TITLE_ROW, titleAnimation);
+    }
+    
+    @Override
+    public void setLine(int row, @NotNull Component text) {
+        setLine(row, text, 20); // Default to updating every second
+    }
+    
+    @Override
+    public void setLine(int row, @NotNull Component text, int updateIntervalTicks) {
+        checkMainThread();
+        validateRow(row);
+        
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+        
+        if (updateIntervalTicks < 1) {
+            throw new IllegalArgumentException("Update interval must be at least 1 tick");
+        }
+        
+        // Cancel any existing animation for this row
+        cancelLineAnimation(row);
+        
+        checkNotDestroyed();
+        
+        // Update the team's prefix and suffix (flicker-free!) and the score, if changed
+        applyLine(row, text);
+        
+        // Note: PlaceholderAPI is not supported for Component-based content
+        // If placeholders are needed, use the legacy String-based method
+    }
+    
+    @Override
+    public void setLine(int row, @NotNull String text) {
+        setLine(row, text, 20); // Default to updating every second
+    }
+    
+    @Override
+    public void setLine(int row, @NotNull String text, int updateIntervalTicks) {
+        checkMainThread();
+        validateRow(row);
+        
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+        
+        if (updateIntervalTicks < 1) {
+            throw new IllegalArgumentException("Update interval must be at least 1 tick");
+        }
+        
+        // Cancel any existing animation for this row
+        cancelLineAnimation(row);
+        
+        // Convert legacy String to Component (Adventure-First)
+        Component textComponent = LegacySupport.toComponent(text);
+        
+        checkNotDestroyed();
+        
+        // Update the team's prefix and suffix (flicker-free!) and the score, if changed
+        applyLine(row, textComponent);
+        
+        // If the text contains placeholders, schedule periodic updates
+        if (PAPIHook.hasPlaceholders(text)) {
+            scheduleRecurringLineUpdate(row, text, updateIntervalTicks);
+        }
+    }
+    
+    @Override
+    public void setAnimatedLine(int row, @NotNull Animation animation) {
+        checkMainThread();
+        validateRow(row);
+        
+        if (animation == null) {
+            throw new IllegalArgumentException("Animation cannot be null");
+        }
+        
+        // Cancel any existing animation for this row
+        cancelLineAnimation(row);
+        
+        // Store the animation
+        activeAnimations.put(row, animation);
+        
+        // v2.0.1: Track reference for SharedAnimation
+        if (animation instanceof com.dripps.scorefx.animation.SharedAnimation sharedAnimation) {
+            sharedAnimation.addReference();
+        }
+        
+        // Schedule the animation task with the Heartbeat
+        UpdateTask task = new UpdateTask(
+            UpdateTask.TaskType.LINE_ANIMATION,
+            player.getUniqueId(),
+            heartbeat.getCurrentTick() + animation.getIntervalTicks(),
+            row,
+            "", // Text not used for animations (animation provides frames)
+            animation.getIntervalTicks()
+        );
+        
+        heartbeat.scheduleTask(task);
+        
+        // Immediately show the first frame (now returns Component)
+        Component firstFrame = animation.nextFrame();
+        updateLineDirect(row, firstFrame);
+        
+        // Re-register the animation since updateLineDirect doesn't cancel it
+        activeAnimations.put(row, animation);
+    }
+    
+    @Override
+    public void removeLine(int row) {
+        checkMainThread();
+        validateRow(row);
+        
+        // Cancel any animation for this row
+        cancelLineAnimation(row);
+        
+        // Remove custom score tracking
+        customScores.remove(row);
+        
+        // Send remove packet using PacketHelper (v2.0)
+        String entry = entries.get(row);
+        sendPacket(PacketHelper.createRemoveScorePacket(OBJECTIVE_NAME, entry));
+        
+        // Clear the team's prefix and suffix
+        if (!destroyed && usesTeams()) {
+            applySplit(row, EMPTY_SPLIT);
+        }
+        
+        // v2.1.0: The next setLine must send the score entry again
+        lastLines[row] = null;
+        sentScores[row] = null;
+        scoreSent[row] = false;
+    }
+    
+    @NotNull
+    @Override
+    public Player getPlayer() {
+        return player;
+    }
+    
+    /**
+     * Flushes all pending updates to the scoreboard.
+     * <p>
+     * This method applies all queued line and title updates in a single batch operation.
+     * This is a critical optimization in v2.0.1 that reduces packet overhead by batching
+     * multiple updates together instead of sending them individually.
+     * </p>
+     * <p>
+     * This method is called by the Heartbeat at the end of each tick after all animation
+     * frames have been calculated. As of v2.1.0 only boards with pending updates are
+     * flushed (see {@link #isDirty()}), and a flush is a {@link #render()} followed by a
+     * {@link #commit()}.
+     * </p>
+     * <p>
+     * With a {@link PacketBudget} set on the Heartbeat, updates the board cannot afford this
+     * flush stay pending and the board stays dirty, so it is flushed again next tick.
+     * </p>
+     *
+     * @since 2.0.1
+     */
+    public void flushUpdates() {
+        render();
+        commit();
+    }
+    
+    /**
+     * Render phase of a flush: turns pending updates into ready-to-send payloads.
+     * <p>
+     * Splits every pending line into its team prefix and suffix and builds its team and score
+     * packets, which includes the Adventure-to-vanilla conversion. Lines equal to the last one applied
+     * are dropped here, and a score packet is only built if the row's score entry is not
+     * on the client yet or its custom score changed. It only reads this board's state
+     * and touches no Bukkit objects, so the Heartbeat may render many boards in parallel
+     * while the main thread waits; {@link #commit()} must follow on the owning thread.
+     * </p>
+     * <p>
+     * With a {@link PacketBudget} the title and rows are rendered in priority order, and
+     * only as many changed ones as the board's bucket can afford (see
+     * {@link Board#setLinePriority(int, int)}). Lines and titles applied immediately, such
+     * as those set while no flush is batched, are not charged to the budget.
+     * </p>
+     *
+     * @since 2.1.0
+     */
+    public void render() {
+        PacketBudget.Bucket bucket = getBudgetBucket();
+        if (bucket != null) {
+            renderWithinBudget(bucket);
+            return;
+        }
+        
+        Component title = pendingTitleUpdate;
+        if (title != null) {
+            renderTitle(title);
+        }
+        
+        if (pendingLineUpdates.isEmpty()) {
+            return;
+        }
+        
+        for (Map.Entry<Integer, Component> entry : pendingLineUpdates.entrySet()) {
+            renderLine(entry.getKey(), entry.getValue());
+        }
+        
+        pendingLineUpdates.clear();
+    }
+    
+    /**
+     * Render phase under a {@link PacketBudget}: renders the title and rows in priority
+     * order and leaves every update the bucket cannot afford pending, so a newer update for
+     * the same row replaces it before the next flush. Unchanged updates cost nothing.
+     *
+     * @param bucket this board's tokens
+     */
+    private void renderWithinBudget(@NotNull PacketBudget.Bucket bucket) {
+        bucket.refill(System.nanoTime());
+        
+        for (int row : getPriorityOrder(bucket.getBudget())) {
+            if (row == TITLE_ROW) {
+                Component title = pendingTitleUpdate;
+                if (title == null) {
+                    continue;
+                }
+                if (!title.equals(sentTitle) && !bucket.tryConsume(1, PacketBudget.estimateBytes(title))) {
+                    budgetDeferred++;
+                    continue;
+                }
+                renderTitle(title);
+                continue;
+            }
+            
+            Component component = pendingLineUpdates.get(row);
+            if (component == null) {
+                continue;
+            }
+            
+            Component customScore = customScores.get(row);
+            boolean scoreCurrent = isScoreCurrent(row, customScore);
+            boolean lineCurrent = component.hashCode() == lastLineHashes[row] && component.equals(lastLines[row]);
+            if (!(scoreCurrent && lineCurrent)) {
+                // The board's packets for the text, plus one score packet if the score changed
+                int packets = lineRendering == LineRendering.SCORE_DISPLAY
+                    ? 1
+                    : (lineCurrent ? 0 : textPacketCount()) + (scoreCurrent ? 0 : 1);
+                int bytes = PacketBudget.estimateBytes(component)
+                    + (scoreCurrent ? 0 : PacketBudget.estimateBytes(customScore));
+                if (!bucket.tryConsume(packets, bytes)) {
+                    budgetDeferred++;
+                    continue;
+                }
+            }
+            
+            pendingLineUpdates.remove(row);
+            renderLine(row, component);
+        }
+    }
+    
+    /**
+     * Gets this board's token bucket for the Heartbeat's packet budget, creating a new one
+     * when the budget changed.
+     *
+     * @return the bucket, or null if no budget is set
+     */
+    @Nullable
+    private PacketBudget.Bucket getBudgetBucket() {
+        PacketBudget budget = heartbeat.getPacketBudget();
+        if (budget == null) {
+            budgetBucket = null;
+            return null;
+        }
+        
+        if (budgetBucket == null || budgetBucket.getBudget() != budget) {
+            budgetBucket = budget.newBucket();
+            priorityOrder = null;
+        }
+        return budgetBucket;
+    }
+    
+    /**
+     * Gets the title and rows in flush order, computing it after priorities changed.
+     *
+     * @param budget the budget providing default priorities
+     * @return the title ({@code TITLE_ROW}) and rows 1-15, highest priority first
+     */
+    @NotNull
+    private int[] getPriorityOrder(@NotNull PacketBudget budget) {
+        int[] order = priorityOrder;
+        if (order == null) {
+            int[] priorities = new int[MAX_LINES + 1];
+            for (int row = 1; row <= MAX_LINES; row++) {
+                priorities[row] = resolveLinePriority(row, budget);
+            }
+            order = PacketBudget.order(budget.getTitlePriority(), priorities, TITLE_ROW);
+            priorityOrder = order;
+        }
+        return order;
+    }
+    
+    /**
+     * Gets a row's priority: its own if one was set, otherwise the budget's default.
+     *
+     * @param row the row number (1-15)
+     * @param budget the budget providing the default, or null for none
+     * @return the row's priority
+     */
+    private int resolveLinePriority(int row, @Nullable PacketBudget budget) {
+        if ((customPriorityRows & (1 << row)) != 0) {
+            return linePriorities[row];
+        }
+        return budget != null ? budget.getRowPriority(row) : 0;
+    }
+    
+    /**
+     * Renders the pending title update, dropping it if the client already shows it.
+     *
+     * @param title the pending title
+     */
+    private void renderTitle(@NotNull Component title) {
+        FramePayload titlePayload = pendingTitlePayload;
+        pendingTitleUpdate = null;
+        pendingTitlePayload = null;
+        if (title.equals(sentTitle)) {
+            skippedUpdates++;
+        } else {
+            renderedTitle = title;
+            renderedTitlePayload = titlePayload != null && titlePayload.getFrame() == title ? titlePayload : null;
+        }
+    }
+    
+    /**
+     * Renders a pending line update into the row's team and score packets.
+     *
+     * @param row the row number (1-15)
+     * @param component the pending line, already removed from the pending updates by the caller
+     */
+    private void renderLine(int row, @NotNull Component component) {
+        // v2.1.0: Drop the update if neither the line nor its score changed
+        FramePayload payload = pendingPayloads[row];
+        pendingPayloads[row] = null;
+        if (payload != null && payload.getFrame() != component) {
+            payload = null; // Replaced by a plain update
+        }
+        Component customScore = customScores.get(row); // null = hidden score (default)
+        boolean scoreCurrent = isScoreCurrent(row, customScore);
+        int hash = component.hashCode();
+        if (scoreCurrent && hash == lastLineHashes[row] && component.equals(lastLines[row])) {
+            skippedUpdates++;
+            return;
+        }
+        lastLines[row] = component;
+        lastLineHashes[row] = hash;
+        
+        // v2.1.0: The line is the score's display component, nothing to split
+        if (lineRendering == LineRendering.SCORE_DISPLAY) {
+            renderedScorePackets[row] = createScorePacket(row, customScore);
+            renderedScores[row] = customScore;
+            renderedRows[renderedRowCount++] = row;
+            return;
+        }
+        
+        // Split the Component into prefix and suffix using ComponentLineSplitter
+        // v2.1.0: A shared frame is split and packed once for every board showing it
+        ComponentLineSplitter.SplitResult split = payload != null
+            ? payload.getSplit()
+            : ComponentLineSplitter.split(component);
+        if (!isSplitCurrent(row, split)) {
+            renderedSplits[row] = split;
+            renderedTeamPackets[row] = payload != null
+                ? getSharedTeamPacket(row, payload)
+                : buildTeamPacket(row, split);
+            renderedPayloads[row] = payload; // Encoded on commit, see getEncodedTeamPacket
+        }
+        
+        // Build the score packet (v2.0: sent directly, bypassing Bukkit scores)
+        if (!scoreCurrent) {
+            renderedScorePackets[row] = createScorePacket(row, customScore);
+            renderedScores[row] = customScore;
+        }
+        renderedRows[renderedRowCount++] = row;
+    }
+    
+    /**
+     * Commit phase of a flush: applies what {@link #render()} prepared.
+     * <p>
+     * Sets the title and the team prefixes and suffixes, and sends the prebuilt score
+     * packets. A prefix and suffix equal to the ones last sent are not set again. Must run
+     * on the thread that owns the board; does nothing once the board is destroyed.
+     * </p>
+     * <p>
+     * Every packet produced by one commit is delivered as a single bundle (see
+     * {@link PacketSender#sendAll}), so a frame that changes several lines appears on
+     * the client at once. With event loop dispatch the bundle is built and written on the
+     * player's Netty event loop instead of this thread. Where a {@link TeamBoardImpl} cannot
+     * update its scoreboard silently, it falls back to the Bukkit API, whose changes the
+     * server sends separately.
+     * </p>
+     *
+     * @since 2.1.0
+     */
+    public void commit() {
+        committing = true;
+        try {
+            commitRendered();
+        } finally {
+            committing = false;
+        }
+        
+        if (!commitPackets.isEmpty()) {
+            PacketSender sender = getSender();
+            if (sender != null && !(heartbeat.isEventLoopDispatch() && sender.dispatchAll(commitPackets))) {
+                // v2.1.0: With batched flushing the Heartbeat flushes once after all commits
+                boolean flush = !heartbeat.isBatchedFlush();
+                sender.sendAll(commitPackets, flush);
+                unflushed |= !flush;
+            }
+            commitPackets.clear();
+        }
+        
+        // v2.1.0: Updates held back by the packet budget go out on a later flush
+        if (budgetDeferred > 0) {
+            heartbeat.recordBudgetDeferrals(budgetDeferred);
+            budgetDeferred = 0;
+            if (!destroyed) {
+                markDirty();
+            }
+        }
+    }
+    
+    /**
+     * Flushes the packets that commits wrote to the player's channel without flushing.
+     * <p>
+     * Called by the Heartbeat once per tick after every board has been committed, so a
+     * board's packets reach the socket with a single flush. Does nothing if nothing is
+     * waiting.
+     * </p>
+     *
+     * @since 2.1.0
+     */
+    public void flushConnection() {
+        if (!unflushed) {
+            return;
+        }
+        unflushed = false;
+        
+        PacketSender sender = this.sender;
+        if (sender != null) {
+            sender.flush();
+        }
+    }
+    
+    /**
+     * Checks whether the player's client keeps up with the packets already written to it.
+     * <p>
+     * A board whose connection is not writable is not flushed: its pending updates stay
+     * queued and newer ones replace them, so a slow client skips intermediate frames
+     * instead of buffering them.
+     * </p>
+     *
+     * @return false if the channel's outbound buffer is full
+     * @since 2.1.0
+     */
+    public boolean isConnectionWritable() {
+        PacketSender sender = getSender();
+        return sender == null || sender.isWritable();
+    }
+    
+    private void commitRendered() {
+        // Flush pending title update
+        if (renderedTitle != null && !destroyed) {
+            sendTitle(renderedTitle, renderedTitlePayload);
+            sentTitle = renderedTitle;
+            renderedTitle = null;
+            renderedTitlePayload = null;
+        }
+        
+        // Flush all rendered line updates
+        for (int i = 0; i < renderedRowCount; i++) {
+            int row = renderedRows[i];
+            ComponentLineSplitter.SplitResult split = renderedSplits[row]; // null = text unchanged
+            Object teamPacket = renderedTeamPackets[row];
+            FramePayload payload = renderedPayloads[row];
+            Object packet = renderedScorePackets[row];
+            Component customScore = renderedScores[row];
+            renderedSplits[row] = null;
+            renderedTeamPackets[row] = null;
+            renderedPayloads[row] = null;
+            renderedScorePackets[row] = null;
+            renderedScores[row] = null;
+            
+            if (destroyed) {
+                continue;
+            }
+            
+            // Update the team's prefix and suffix
+            if (split != null) {
+                if (payload != null && teamPacket != null) {
+                    teamPacket = getEncodedTeamPacket(row, payload, teamPacket);
+                }
+                sendSplit(row, split, teamPacket);
+            }
+            
+            if (packet != null) {
+                sendPacket(packet);
+                markScoreSent(row, customScore);
+            } else if (split == null) {
+                skippedUpdates++;
+            }
+        }
+        renderedRowCount = 0;
+        
+        if (skippedUpdates > 0) {
+            heartbeat.recordSkippedUpdates(skippedUpdates);
+            skippedUpdates = 0;
+        }
+    }
+    
+    /**
+     * Checks if this board is currently visible to the player.
+     *
+     * @return true if visible, false if hidden
+     * @since 2.0.1
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+    
+    /**
+     * Sets the visibility of this board.
+     * <p>
+     * When a board is hidden, all update operations are skipped to avoid wasteful
+     * packet sends. This is a performance optimization introduced in v2.0.1.
+     * </p>
+     *
+     * @param visible true to show the board, false to hide it
+     * @since 2.0.1
+     */
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+        
+        if (!visible) {
+            // Clear any pending updates when hiding
+            pendingLineUpdates.clear();
+            pendingTitleUpdate = null;
+            Arrays.fill(pendingPayloads, null);
+            pendingTitlePayload = null;
+        }
+    }
+    
+    /**
+     * Cleans up this board and all its resources.
+     * <p>
+     * This method releases the board's animations, clears its pending updates and then removes the
+     * board from the client (see {@link #removeFromClient()}). Scheduled tasks are
+     * cancelled by the Heartbeat when the board is unregistered.
+     * </p>
+     */
+    public void destroy() {
+        checkMainThread();
+        
+        // Scheduled tasks are cancelled by Heartbeat.unregisterBoard, but shared animations
+        // must be released here: their frames stay pinned in the component cache until
+        // every board using them lets go (v2.1.0)
+        cancelTitleAnimation();
+        for (int row : List.copyOf(activeAnimations.keySet())) {
+            cancelLineAnimation(row);
+        }
+        
+        // v2.1.0: The board may still be linked into the dirty list until the next flush,
+        // which must then be a no-op
+        pendingLineUpdates.clear();
+        pendingTitleUpdate = null;
+        Arrays.fill(pendingPayloads, null);
+        pendingTitlePayload = null;
+        
+        if (destroyed) {
+            return;
+        }
+        destroyed = true;
+        
+        removeFromClient();
+        flushConnection();
+        sender = null;
+    }
+    
+    /**
+     * Checks if this board has been destroyed.
+     *
+     * @return true once {@link #destroy()} has been called
+     * @since 2.1.0
+     */
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+    
+    /**
+     * Gets the active animation for a specific row.
+     * <p>
+     * This is used by the Heartbeat to advance animation frames.
+     * </p>
+     *
+     * @param row the row number, or TITLE_ROW for the title
+     * @return the animation, or null if no animation is active for this row
+     */
+    @Nullable
+    public Animation getAnimation(int row) {
+        return activeAnimations.get(row);
+    }
+    
+    /**
+     * Updates the title to display the given text directly (bypassing setTitle to avoid canceling animations).
+     * <p>
+     * This is an internal method used by the Heartbeat to update animated titles.
+     * </p>
+     *
+     * @param text the text to display
+     */
+    /**
+     * Updates the title to display the given Component directly (bypassing setTitle to avoid canceling animations).
+     * <p>
+     * This is an internal method used by the Heartbeat to update animated titles and scheduled title updates.
+     * As of v2.0.1, this queues the update for batching instead of applying immediately.
+     * </p>
+     *
+     * @param component the Component to display as the title
+     * @since 1.1.0 (changed from String to Component)
+     * @since 2.0.1 (batching support)
+     */
+    public void updateTitleDirect(@NotNull Component component) {
+        // v2.0.1: Skip update if board is hidden
+        if (!visible) {
+            return;
+        }
+        
+        // v2.0.1: Queue update for batching instead of applying immediately
+        pendingTitleUpdate = component;
+        pendingTitlePayload = null;
+        markDirty();
+    }
+    
+    /**
+     * Updates the title to a frame of a {@link com.dripps.scorefx.animation.SharedAnimation},
+     * reusing the frame's shared payload where this board can.
+     *
+     * @param payload the frame's payload
+     * @since 2.1.0
+     */
+    public void updateTitleDirect(@NotNull FramePayload payload) {
+        if (!visible) {
+            return;
+        }
+        
+        pendingTitleUpdate = payload.getFrame();
+        pendingTitlePayload = payload;
+        markDirty();
+    }
+    
+    /**
+     * Updates a line to display the given Component directly (bypassing setLine to avoid canceling animations).
+     * <p>
+     * This is an internal method used by the Heartbeat to update animated lines and scheduled line updates.
+     * As of v2.0.1, this queues the update for batching instead of applying immediately.
+     * </p>
+     *
+     * @param row the row number
+     * @param component the Component to display
+     * @since 1.1.0 (changed from String to Component)
+     * @since 2.0.1 (batching support)
+     */
+    public void updateLineDirect(int row, @NotNull Component component) {
+        // v2.0.1: Skip update if board is hidden
+        if (!visible) {
+            return;
+        }
+        
+        // v2.0.1: Queue update for batching instead of applying immediately
+        pendingLineUpdates.put(row, component);
+        pendingPayloads[row] = null;
+        markDirty();
+    }
+    
+    /**
+     * Updates a line to a frame of a {@link com.dripps.scorefx.animation.SharedAnimation},
+     * reusing the frame's split and team packet instead of rendering it again.
+     *
+     * @param row the row number
+     * @param payload the frame's payload
+     * @since 2.1.0
+     */
+    public void updateLineDirect(int row, @NotNull FramePayload payload) {
+        if (!visible) {
+            return;
+        }
+        
+        pendingLineUpdates.put(row, payload.getFrame());
+        pendingPayloads[row] = payload;
+        markDirty();
+    }
+    
+    /**
+     * Checks if this board has updates queued since it was last flushed.
+     *
+     * @return true if the board needs to be flushed
+     * @since 2.1.0
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+    
+    /**
+     * Marks this board dirty and links it in front of the given board.
+     * <p>
+     * This is an internal method used by the Heartbeat to maintain its list of boards
+     * to flush; the link lives in the board itself so no allocation is needed.
+     * </p>
+     *
+     * @param next the next board in the dirty list, or null if this is the last one
+     * @since 2.1.0
+     */
+    public void linkDirty(@Nullable AbstractBoard next) {
+        this.dirty = true;
+        this.nextDirty = next;
+    }
+    
+    /**
+     * Clears the dirty flag and unlinks this board from the dirty list.
+     *
+     * @return the next board in the dirty list, or null if this was the last one
+     * @since 2.1.0
+     */
+    @Nullable
+    public AbstractBoard unlinkDirty() {
+        AbstractBoard next = nextDirty;
+        this.dirty = false;
+        this.nextDirty = null;
+        return next;
+    }
+    
+    /**
+     * Queues this board for the next flush, once per tick.
+     */
+    private void markDirty() {
+        if (!dirty) {
+            heartbeat.markDirty(this);
+        }
+    }
+    
+    /**
+     * Sets the title immediately, unless the client already shows it.
+     *
+     * @param title the title to display
+     */
+    private void applyTitle(@NotNull Component title) {
+        if (title.equals(sentTitle)) {
+            heartbeat.recordSkippedUpdates(1);
+            return;
+        }
+        
+        sendTitle(title, null);
+        sentTitle = title;
+    }
+    
+    /**
+     * Applies a line immediately, sending only the parts the client does not show yet.
+     *
+     * @param row the row number
+     * @param text the line to display
+     */
+    private void applyLine(int row, @NotNull Component text) {
+        Component customScore = customScores.get(row); // null = hidden score (default)
+        boolean scoreCurrent = isScoreCurrent(row, customScore);
+        int hash = text.hashCode();
+        if (scoreCurrent && hash == lastLineHashes[row] && text.equals(lastLines[row])) {
+            heartbeat.recordSkippedUpdates(1);
+            return;
+        }
+        lastLines[row] = text;
+        lastLineHashes[row] = hash;
+        
+        // v2.1.0: The line is the score's display component, one packet carries both
+        if (lineRendering == LineRendering.SCORE_DISPLAY) {
+            sendScorePacket(row, customScore);
+            return;
+        }
+        
+        // Split the Component into prefix and suffix using ComponentLineSplitter
+        boolean textChanged = applySplit(row, ComponentLineSplitter.split(text));
+        
+        // Send the score packet directly using PacketHelper (v2.0)
+        if (!scoreCurrent) {
+            sendScorePacket(row, customScore);
+        } else if (!textChanged) {
+            heartbeat.recordSkippedUpdates(1);
+        }
+    }
+    
+    /**
+     * Sets a row's team prefix and suffix if they differ from the ones last sent.
+     *
+     * @param row the row number
+     * @param split the split line
+     * @return true if the team was updated
+     */
+    private boolean applySplit(int row, @NotNull ComponentLineSplitter.SplitResult split) {
+        if (isSplitCurrent(row, split)) {
+            return false;
+        }
+        
+        sendSplit(row, split, buildTeamPacket(row, split));
+        return true;
+    }
+    
+    /**
+     * Sends a row's new prefix and suffix and records them as sent.
+     *
+     * @param row the row number
+     * @param split the split line
+     * @param teamPacket the packet from {@link #buildTeamPacket}, or null
+     */
+    private void sendSplit(int row, @NotNull ComponentLineSplitter.SplitResult split, @Nullable Object teamPacket) {
+        sendLineText(row, split.prefix(), split.suffix(), teamPacket);
+        sentPrefixes[row] = split.prefix();
+        sentSuffixes[row] = split.suffix();
+    }
+    
+    /**
+     * Builds a single team packet carrying a row's new prefix and suffix. Only the half that
+     * differs from the one last sent is converted; the other is reused from the row's
+     * detached team.
+     *
+     * @param row the row number
+     * @param split the split line, which must differ from the one last sent
+     * @return the packet, or null if team packets are not supported
+     */
+    @Nullable
+    private Object buildTeamPacket(int row, @NotNull ComponentLineSplitter.SplitResult split) {
+        Object packetTeam = getPacketTeam(row);
+        if (packetTeam == null) {
+            return null;
+        }
+        
+        // After a shared packet the detached team holds outdated text, so set both halves
+        boolean stale = packetTeamStale[row];
+        packetTeamStale[row] = false;
+        Component prefix = !stale && split.prefix().equals(sentPrefixes[row]) ? null : split.prefix();
+        Component suffix = !stale && split.suffix().equals(sentSuffixes[row]) ? null : split.suffix();
+        return PacketHelper.createTeamPacket(packetTeam, prefix, suffix);
+    }
+    
+    /**
+     * Gets the team packet a shared frame built for a row, which sets both halves.
+     *
+     * @param row the row number
+     * @param payload the frame's payload
+     * @return the packet, or null if team packets are not supported
+     */
+    @Nullable
+    private Object getSharedTeamPacket(int row, @NotNull FramePayload payload) {
+        if (!sendsTeamPackets()) {
+            return null;
+        }
+        
+        Object packet = payload.getTeamPacket(row, TEAM_PREFIX + row, entries.get(row));
+        if (packet != null) {
+            packetTeamStale[row] = true;
+        }
+        return packet;
+    }
+    
+    /**
+     * With shared encoding, swaps a shared frame's team packet for its encoded form. Runs in
+     * the commit phase, because encoding needs the player's connection, which render must
+     * not touch.
+     *
+     * @param row the row number
+     * @param payload the frame's payload
+     * @param teamPacket the rendered team packet
+     * @return the encoded packet, or the team packet if shared encoding is off or failed
+     */
+    @NotNull
+    private Object getEncodedTeamPacket(int row, @NotNull FramePayload payload, @NotNull Object teamPacket) {
+        // v2.1.0: Encoded once, then the same bytes are written to every player
+        PacketSender sender = heartbeat.isSharedEncoding() ? getSender() : null;
+        if (sender == null) {
+            return teamPacket;
+        }
+        
+        Object encoded = payload.getEncodedTeamPacket(row, TEAM_PREFIX + row, entries.get(row), sender);
+        return encoded != null ? encoded : teamPacket;
+    }
+    
+    /**
+     * Gets the objective packet a shared frame built for the title, encoded once for every
+     * board if shared encoding is on. Encoding needs the player's connection, so this is
+     * for {@link #sendTitle}, never the render phase.
+     *
+     * @param payload the frame's payload
+     * @return the encoded or plain packet, or null if objective packets are not supported
+     */
+    @Nullable
+    protected final Object getSharedTitlePacket(@NotNull FramePayload payload) {
+        // v2.1.0: Encoded once, then the same bytes are written to every player
+        PacketSender sender = heartbeat.isSharedEncoding() ? getSender() : null;
+        Object encoded = sender != null ? payload.getEncodedTitlePacket(OBJECTIVE_NAME, sender) : null;
+        return encoded != null ? encoded : payload.getTitlePacket(OBJECTIVE_NAME);
+    }
+    
+    /**
+     * Checks whether line text is sent through teams, so subclasses must create them.
+     *
+     * @return false if lines are rendered as score display components
+     */
+    protected final boolean usesTeams() {
+        return lineRendering == LineRendering.TEAMS;
+    }
+    
+    /**
+     * Gets where this board puts the text of its lines.
+     *
+     * @return the line rendering
+     * @since 2.1.0
+     */
+    @NotNull
+    public LineRendering getLineRendering() {
+        return lineRendering;
+    }
+    
+    /**
+     * Returns the score holder of a row, which is also the only member of the row's team.
+     *
+     * @param row the row number (0-15)
+     * @return the entry string
+     */
+    @NotNull
+    protected final String getEntry(int row) {
+        return entries.get(row);
+    }
+    
+    /**
+     * Returns the detached NMS team used to build a row's team packets, creating it on
+     * first use.
+     *
+     * @param row the row number (0-15)
+     * @return the detached team, or null if team packets are not supported or not sent by this board
+     */
+    @Nullable
+    protected final Object getPacketTeam(int row) {
+        if (!sendsTeamPackets()) {
+            return null;
+        }
+        
+        Object packetTeam = packetTeams[row];
+        if (packetTeam == null) {
+            packetTeam = PacketHelper.createPacketTeam(TEAM_PREFIX + row, entries.get(row));
+            packetTeams[row] = packetTeam;
+        }
+        return packetTeam;
+    }
+    
+    /** Checks whether the client already shows a row's prefix and suffix. */
+    private boolean isSplitCurrent(int row, @NotNull ComponentLineSplitter.SplitResult split) {
+        return split.prefix().equals(sentPrefixes[row]) && split.suffix().equals(sentSuffixes[row]);
+    }
+    
+    /**
+     * Checks whether the client shows a row's score entry with the given custom score.
+     *
+     * @param row the row number
+     * @param customScore the custom score, or null for a hidden score
+     * @return true if no score packet is needed
+     */
+    private boolean isScoreCurrent(int row, @Nullable Component customScore) {
+        return scoreSent[row] && Objects.equals(sentScores[row], customScore);
+    }
+    
+    /**
+     * Builds a row's score packet. The score value is the row number, which never changes,
+     * so a packet is only needed when the row appears or its custom score changes, or, with
+     * {@link LineRendering#SCORE_DISPLAY}, when its text changes.
+     *
+     * @param row the row number
+     * @param customScore the custom score, or null for a hidden score
+     * @return the packet, or null if it could not be built
+     */
+    @Nullable
+    private Object createScorePacket(int row, @Nullable Component customScore) {
+        Component display = lineRendering == LineRendering.SCORE_DISPLAY ? lastLines[row] : null;
+        return PacketHelper.createScorePacket(
+            OBJECTIVE_NAME, entries.get(row), row, display, customScore, isObjectiveFormatBlank()
+        );
+    }
+    
+    private void sendScorePacket(int row, @Nullable Component customScore) {
+        Object packet = createScorePacket(row, customScore);
+        if (packet != null) {
+            sendPacket(packet);
+            markScoreSent(row, customScore);
+        }
+    }
+    
+    private void markScoreSent(int row, @Nullable Component customScore) {
+        sentScores[row] = customScore;
+        scoreSent[row] = true;
+    }
+    
+    /**
+     * Cancels the title animation if one is active, along with any scheduled title task.
+     */
+    private void cancelTitleAnimation() {
+        if (titleAnimation != null) {
+            activeAnimations.remove(TITLE_ROW);
+            
+            // v2.0.1: Release reference for SharedAnimation
+            if (titleAnimation instanceof com.dripps.scorefx.animation.SharedAnimation sharedAnimation) {
+                sharedAnimation.removeReference();
+            }
+            
+            titleAnimation = null;
+        }
+        
+        // v2.1.0: Free the title's task slot (animation or placeholder refresh) in O(1)
+        heartbeat.cancelTask(player.getUniqueId(), TITLE_ROW);
+    }
+    
+    /**
+     * Cancels any animation for the specified row, along with any scheduled task for it.
+     *
+     * @param row the row number
+     */
+    private void cancelLineAnimation(int row) {
+        Animation animation = activeAnimations.remove(row);
+        
+        // v2.0.1: Release reference for SharedAnimation
+        if (animation instanceof com.dripps.scorefx.animation.SharedAnimation sharedAnimation) {
+            sharedAnimation.removeReference();
+        }
+        
+        // v2.1.0: Free the row's task slot (animation or placeholder refresh) in O(1)
+        heartbeat.cancelTask(player.getUniqueId(), row);
+    }
+    
+    /**
+     * Schedules a recurring title update task for placeholder replacement.
+     *
+     * @param text the text containing placeholders
+     * @param intervalTicks the interval in ticks between updates
+     */
+    private void scheduleRecurringTitleUpdate(@NotNull String text, int intervalTicks) {
+        UpdateTask task = new UpdateTask(
+            UpdateTask.TaskType.TITLE_UPDATE,
+            player.getUniqueId(),
+            heartbeat.getCurrentTick() + intervalTicks,
+            TITLE_ROW,
+            text,
+            intervalTicks
+        );
+        
+        heartbeat.scheduleTask(task);
+    }
+    
+    /**
+     * Schedules a recurring line update task for placeholder replacement.
+     *
+     * @param row the row number
+     * @param text the text containing placeholders
+     * @param intervalTicks the interval in ticks between updates
+     */
+    private void scheduleRecurringLineUpdate(int row, @NotNull String text, int intervalTicks) {
+        UpdateTask task = new UpdateTask(
+            UpdateTask.TaskType.LINE_UPDATE,
+            player.getUniqueId(),
+            heartbeat.getCurrentTick() + intervalTicks,
+            row,
+            text,
+            intervalTicks
+        );
+        
+        heartbeat.scheduleTask(task);
+    }
+    
+    /**
+     * Validates that the given row number is within the valid range (1-15).
+     *
+     * @param row the row number to validate
+     * @throws IllegalArgumentException if the row is not between 1 and 15
+     */
+    private void validateRow(int row) {
+        if (row < 1 || row > MAX_LINES) {
+            throw new IllegalArgumentException(
+                "Row must be between 1 and " + MAX_LINES + ", got: " + row
+            );
+        }
+    }
+    
+    /**
+     * Ensures that the current thread is the main server thread.
+     * <p>
+     * This is a critical safety check to prevent concurrent modification issues
+     * and comply with the Bukkit API's threading requirements.
+     * </p>
+     * <p>
+     * v2.1.0: On Folia the thread of the region that owns the player is accepted instead.
+     * </p>
+     *
+     * @throws IllegalStateException if called from a thread that does not own the board
+     */
+    private void checkMainThread() {
+        if (!RegionSupport.isOwnedByCurrentThread(player)) {
+            throw new IllegalStateException(
+                (RegionSupport.isRegionThreaded()
+                    ? "ScoreFX API must be accessed from the region thread that owns the player. "
+                    : "ScoreFX API must be accessed from the main server thread. ") +
+                "Current thread: " + Thread.currentThread().getName()
+            );
+        }
+    }
+    
+    /**
+     * Ensures that the board has not been destroyed.
+     *
+     * @throws IllegalStateException if {@link #destroy()} has been called
+     */
+    private void checkNotDestroyed() {
+        if (destroyed) {
+            throw new IllegalStateException("Board for " + player.getName() + " has been destroyed");
+        }
+    }
+    
+    // ==================== Client Transport (v2.1.0) ====================
+    
+    /**
+     * Sends a packet built by {@link PacketHelper} to the player. During a {@link #commit()}
+     * the packet joins the commit's bundle instead.
+     *
+     * @param packet the packet, or null to send nothing (a packet that failed to build)
+     */
+    protected final void sendPacket(@Nullable Object packet) {
+        if (packet == null) {
+            return;
+        }
+        
+        if (committing) {
+            commitPackets.add(packet);
+            return;
+        }
+        
+        PacketSender sender = getSender();
+        if (sender != null) {
+            sender.send(packet);
+        }
+    }
+    
+    /**
+     * Returns the sender for the player's current connection, resolving it on first use.
+     *
+     * @return the sender, or null if the connection could not be resolved (logged)
+     */
+    @Nullable
+    private PacketSender getSender() {
+        if (sender == null) {
+            sender = PacketHelper.createSender(player);
+        }
+        return sender;
+    }
+    
+    /**
+     * Drops the cached connection of the player, so the next packet resolves it again.
+     * <p>
+     * Called when the player respawns, since the server may replace the player's handle.
+     * A destroyed board drops its connection by itself.
+     * </p>
+     *
+     * @since 2.1.0
+     */
+    public void invalidateSender() {
+        flushConnection();
+        sender = null;
+    }
+    
+    /**
+     * Shows a new title on the client.
+     *
+     * @param title the title to display
+     * @param payload the title's shared payload if it is a frame of a shared animation, or null
+     */
+    protected abstract void sendTitle(@NotNull Component title, @Nullable FramePayload payload);
+    
+    /**
+     * Shows a row's new prefix and suffix on the client.
+     *
+     * @param row the row number
+     * @param prefix the new team prefix
+     * @param suffix the new team suffix
+     * @param teamPacket a prebuilt team packet carrying both, or null if none could be built
+     *                   or the board {@link #sendsTeamPackets() sends none}
+     */
+    protected abstract void sendLineText(
+        int row,
+        @NotNull Component prefix,
+        @NotNull Component suffix,
+        @Nullable Object teamPacket
+    );
+    
+    /**
+     * Checks whether line text may be sent as prebuilt team packets. Boards whose teams live
+     * on a server-side scoreboard return true only if they can also store the text there
+     * without a broadcast: the server resends that scoreboard's teams whenever it is shown
+     * again, so the teams there must hold the text the client shows.
+     *
+     * @return true if {@link #sendLineText} is given team packets
+     */
+    protected abstract boolean sendsTeamPackets();
+    
+    /**
+     * Gets how many packets a changed line's text costs, for the {@link PacketBudget}. Only
+     * used with {@link LineRendering#TEAMS}.
+     *
+     * @return 1 if the board sends a single team packet per line, otherwise 2 for the
+     *         separate prefix and suffix updates
+     */
+    protected int textPacketCount() {
+        return sendsTeamPackets() && PacketHelper.isTeamPacketSupported() ? 1 : 2;
+    }
+    
+    /**
+     * Checks whether the objective hides score numbers itself, so score packets without a
+     * custom score need no number format.
+     *
+     * @return true if the objective's number format is blank
+     */
+    protected abstract boolean isObjectiveFormatBlank();
+    
+    /**
+     * Removes the objective and the teams from the client. Called once by {@link #destroy()}.
+     */
+    protected abstract void removeFromClient();
+    
+    // ==================== Custom Score API (v1.2.0 / v2.0.0) ====================
+    
+    @Override
+    public void setLineScore(int row, @Nullable Component score) {
+        checkMainThread();
+        validateRow(row);
+        
+        if (score == null || score.equals(Component.empty())) {
+            // Remove custom score (revert to hidden)
+            customScores.remove(row);
+        } else {
+            // Set custom score
+            customScores.put(row, score);
+        }
+        
+        // v2.1.0: Nothing to send if the client already shows this score
+        Component customScore = customScores.get(row);
+        if (isScoreCurrent(row, customScore)) {
+            heartbeat.recordSkippedUpdates(1);
+            return;
+        }
+        
+        // Immediately send updated packet with new score format (v2.0)
+        sendScorePacket(row, customScore);
+    }
+    
+    @Override
+    public void setLine(int row, @NotNull Component text, @Nullable Component score) {
+        // Delegate to existing setLine for text
+        setLine(row, text);
+        
+        // Set the custom score
+        setLineScore(row, score);
+    }
+    
+    @Deprecated(since = "1.2.0", forRemoval = false)
+    @Override
+    public void setLine(int row, @NotNull String text, @Nullable String score) {
+        // Convert both parameters to Components
+        Component textComponent = LegacySupport.toComponent(text);
+        Component scoreComponent = (score != null) ? LegacySupport.toComponent(score) : null;
+        
+        // Delegate to Component-based method
+        setLine(row, textComponent, scoreComponent);
+    }
+    
+    /**
+     * Retrieves the custom score component for a specific row.
+     * <p>
+     * This method is used internally to determine what custom score format to
+     * display in the score slot for each line. Returns empty Optional if no
+     * custom score is set (defaults to hidden/BLANK format).
+     * </p>
+     *
+     * @param row the row number (1-15)
+     * @return an Optional containing the custom score Component, or empty if no custom score is set
+     * @since 1.2.0
+     */
+    @NotNull
+    public Optional<Component> getCustomScore(int row) {
+        return Optional.ofNullable(customScores.get(row));
+    }
+    
+    // ==================== Pinned Rows API (v2.1.0) ====================
+    
+    @Override
+    public void setLinePinned(int row, boolean pinned) {
+        checkMainThread();
+        validateRow(row);
+        
+        if (pinned) {
+            pinnedRows |= 1 << row;
+        } else {
+            pinnedRows &= ~(1 << row);
+        }
+    }
+    
+    @Override
+    public boolean isLinePinned(int row) {
+        validateRow(row);
+        return (pinnedRows & (1 << row)) != 0;
+    }
+    
+    // ==================== Line Priority API (v2.1.0) ====================
+    
+    @Override
+    public void setLinePriority(int row, int priority) {
+        checkMainThread();
+        validateRow(row);
+        
+        linePriorities[row] = priority;
+        customPriorityRows |= 1 << row;
+        priorityOrder = null;
+    }
+    
+    @Override
+    public int getLinePriority(int row) {
+        validateRow(row);
+        return resolveLinePriority(row, heartbeat.getPacketBudget());
+    }
+}
@@ -0,0 +1,15 @@
+package com.dripps.scorefx.board;
+
+/**
+ * How boards created by the board manager reach the client.
+ *
+ * @since 2.1.0
+ */
+public enum BoardMode {
+
+    /** A Bukkit scoreboard per player with real teams ({@link TeamBoardImpl}). */
+    TEAM,
+    
+    /** Packets only, without server-side scoreboard state ({@link VirtualBoardImpl}). */
+    VIRTUAL
+}
@@ -0,0 +1,22 @@
+package com.dripps.scorefx.board;
+
+/**
+ * Where a board puts the text of its lines.
+ *
+ * @since 2.1.0
+ */
+public enum LineRendering {
+
+    /**
+     * Each line is the prefix and suffix of its own team, split by
+     * {@link com.dripps.scorefx.util.ComponentLineSplitter ComponentLineSplitter}.
+     * Works on every client version.
+     */
+    TEAMS,
+    
+    /**
+     * Each line is the display component of its score (Minecraft 1.20.3+), so one score
+     * packet per changed line is all a line update costs and no teams exist.
+     */
+    SCORE_DISPLAY
+}
@@ -0,0 +1,245 @@
+package com.dripps.scorefx.board;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Limits how many packets and bytes each board sends per second.
+ * <p>
+ * Every board gets its own {@link Bucket} of packet and byte tokens, refilled continuously
+ * at the configured rates and holding at most one second of tokens, so a board that was
+ * idle can still send a full update at once. When a flush cannot afford an update, the
+ * update stays pending and is replaced by any newer one for the same row, so a board over
+ * its budget skips intermediate animation frames and sends the latest state once tokens
+ * are available again.
+ * </p>
+ * <p>
+ * Within a flush, the title and rows are rendered in order of priority (higher first), so
+ * important rows keep updating on time while low-priority ones wait. Equal priorities keep
+ * the title first, then rows in ascending order. Boards can override the default row
+ * priorities through {@link com.dripps.scorefx.api.Board#setLinePriority(int, int)}.
+ * </p>
+ * <p>
+ * Byte costs are estimates from the text of the components, not the encoded packet size.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> This class is immutable. A {@link Bucket} is owned by one
+ * board and only used while that board flushes.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class PacketBudget {
+
+    private static final int ROWS = 16; // Rows 0-15, matching the boards' line teams
+    private static final int PACKET_OVERHEAD_BYTES = 32; // Packet id, team/entry and objective names
+    private static final int COMPONENT_OVERHEAD_BYTES = 4; // Per component: type and style tags
+    
+    private final int packetsPerSecond;
+    private final int bytesPerSecond; // 0 = unlimited
+    private final int titlePriority;
+    private final int[] rowPriorities; // index = row (0-15)
+    
+    /**
+     * Creates a new PacketBudget.
+     *
+     * @param packetsPerSecond the packets a board may send per second, must be positive
+     * @param bytesPerSecond the estimated bytes a board may send per second, or 0 for no byte limit
+     * @param titlePriority the priority of the title
+     * @param rowPriorities the default priority per row (1-15); rows not listed get 0
+     * @throws IllegalArgumentException if a rate is out of range or a row is not between 1 and 15
+     */
+    public PacketBudget(
+        int packetsPerSecond,
+        int bytesPerSecond,
+        int titlePriority,
+        @NotNull Map<Integer, Integer> rowPriorities
+    ) {
+        if (packetsPerSecond < 1) {
+            throw new IllegalArgumentException("Packets per second must be at least 1, got: " + packetsPerSecond);
+        }
+        if (bytesPerSecond < 0) {
+            throw new IllegalArgumentException("Bytes per second cannot be negative, got: " + bytesPerSecond);
+        }
+        if (rowPriorities == null) {
+            throw new IllegalArgumentException("Row priorities cannot be null");
+        }
+        
+        this.packetsPerSecond = packetsPerSecond;
+        this.bytesPerSecond = bytesPerSecond;
+        this.titlePriority = titlePriority;
+        this.rowPriorities = new int[ROWS];
+        for (Map.Entry<Integer, Integer> entry : rowPriorities.entrySet()) {
+            int row = entry.getKey();
+            if (row < 1 || row >= ROWS) {
+                throw new IllegalArgumentException("Row must be between 1 and 15, got: " + row);
+            }
+            this.rowPriorities[row] = entry.getValue();
+        }
+    }
+    
+    /**
+     * Creates a full bucket for a new board.
+     *
+     * @return a bucket holding one second of tokens
+     */
+    @NotNull
+    Bucket newBucket() {
+        return new Bucket(this);
+    }
+    
+    /**
+     * Orders the title and rows by priority, higher first. Ties keep the title first, then
+     * rows in ascending order.
+     *
+     * @param titlePriority the title's priority
+     * @param rowPriorities the priority per row, index = row
+     * @param titleRow the value that stands for the title in the result
+     * @return the title and rows 1-15 in flush order
+     */
+    @NotNull
+    static int[] order(int titlePriority, @NotNull int[] rowPriorities, int titleRow) {
+        Integer[] order = new Integer[ROWS];
+        order[0] = titleRow;
+        for (int row = 1; row < ROWS; row++) {
+            order[row] = row;
+        }
+        
+        // Stable sort, so ties keep the order above
+        Arrays.sort(order, (a, b) -> Integer.compare(
+            b == titleRow ? titlePriority : rowPriorities[b],
+            a == titleRow ? titlePriority : rowPriorities[a]
+        ));
+        
+        int[] result = new int[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+    
+    /**
+     * Estimates the bytes a component adds to a packet: its text plus a small overhead per
+     * component in the tree.
+     *
+     * @param component the component, or null for none
+     * @return the estimated size in bytes
+     */
+    static int estimateBytes(@Nullable Component component) {
+        if (component == null) {
+            return 0;
+        }
+        
+        int bytes = 0;
+        ArrayDeque<Component> stack = new ArrayDeque<>();
+        stack.push(component);
+        while (!stack.isEmpty()) {
+            Component current = stack.pop();
+            bytes += COMPONENT_OVERHEAD_BYTES;
+            if (current instanceof TextComponent text) {
+                bytes += text.content().length();
+            }
+            for (Component child : current.children()) {
+                stack.push(child);
+            }
+        }
+        return bytes;
+    }
+    
+    /** Returns the packets a board may send per second. */
+    public int getPacketsPerSecond() {
+        return packetsPerSecond;
+    }
+    
+    /** Returns the estimated bytes a board may send per second (0 = no byte limit). */
+    public int getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+    
+    /** Returns the priority of the title. */
+    public int getTitlePriority() {
+        return titlePriority;
+    }
+    
+    /**
+     * Returns the default priority of a row.
+     *
+     * @param row the row number (0-15)
+     * @return the priority, 0 unless configured
+     */
+    public int getRowPriority(int row) {
+        return rowPriorities[row];
+    }
+    
+    /**
+     * One board's packet and byte tokens.
+     */
+    static final class Bucket {
+    
+        private final PacketBudget budget;
+        private double packets;
+        private double bytes;
+        private long lastRefillNanos;
+        
+        Bucket(@NotNull PacketBudget budget) {
+            this.budget = budget;
+            this.packets = budget.packetsPerSecond;
+            this.bytes = budget.bytesPerSecond;
+            this.lastRefillNanos = System.nanoTime();
+        }
+        
+        /** Returns the budget this bucket was created for. */
+        @NotNull
+        PacketBudget getBudget() {
+            return budget;
+        }
+        
+        /**
+         * Adds the tokens earned since the last refill, up to one second's worth.
+         *
+         * @param now the current {@link System#nanoTime()}
+         */
+        void refill(long now) {
+            double seconds = (now - lastRefillNanos) / 1_000_000_000.0;
+            lastRefillNanos = now;
+            if (seconds <= 0) {
+                return;
+            }
+            packets = Math.min(budget.packetsPerSecond, packets + seconds * budget.packetsPerSecond);
+            bytes = Math.min(budget.bytesPerSecond, bytes + seconds * budget.bytesPerSecond);
+        }
+        
+        /**
+         * Takes the tokens for an update if there are enough.
+         * <p>
+         * An update that costs more packets or bytes than the bucket can hold is let through
+         * once the bucket is full, leaving it in debt, so it is delayed but never starved.
+         * </p>
+         *
+         * @param packetCount the packets the update sends
+         * @param contentBytes the estimated bytes of the update's components, without packet overhead
+         * @return true if the update may be sent, false if it has to wait
+         */
+        boolean tryConsume(int packetCount, int contentBytes) {
+            if (packets < Math.min(packetCount, budget.packetsPerSecond)) {
+                return false;
+            }
+            
+            int byteCount = contentBytes + packetCount * PACKET_OVERHEAD_BYTES;
+            if (budget.bytesPerSecond > 0) {
+                if (bytes < Math.min(byteCount, budget.bytesPerSecond)) {
+                    return false;
+                }
+                bytes -= byteCount;
+            }
+            packets -= packetCount;
+            return true;
+        }
+    }
+}
@@ -1,14 +1,11 @@
 package com.dripps.scorefx.board;
 
+import com.dripps.scorefx.animation.FramePayload;
 import com.dripps.scorefx.api.Board;
-import com.dripps.scorefx.api.animation.Animation;
-import com.dripps.scorefx.hook.PAPIHook;
 import com.dripps.scorefx.scheduler.Heartbeat;
-import com.dripps.scorefx.scheduler.UpdateTask;
-import com.dripps.scorefx.util.ComponentLineSplitter;
 import com.dripps.scorefx.util.LegacySupport;
-import com.dripps.scorefx.util.LineSplitter;
 import com.dripps.scorefx.util.PacketHelper;
+import io.papermc.paper.scoreboard.numbers.NumberFormat;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -19,11 +16,6 @@ import org.bukkit.scoreboard.Team;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Implementation of the {@link Board} interface using the Team-based rendering approach.
  * <p>
@@ -40,38 +32,31 @@ import java.util.concurrent.ConcurrentHashMap;
  * {@link LegacySupport} at the API boundary.
  * </p>
  * <p>
+ * As of v2.1.0 the board model lives in {@link AbstractBoard}; this class only owns the
+ * Bukkit scoreboard. A changed line is sent as one team packet carrying both halves, and
+ * the text is written onto the Bukkit team without a broadcast (see
+ * {@link PacketHelper#setTeamText}). The teams stay the authoritative state that the
+ * server resends whenever the scoreboard is applied to the player again, for example by
+ * another plugin. The title is written onto the objective the same way and sent as an
+ * objective packet, so the title and the lines of one commit share a bundle. Where that is
+ * unsupported, the text goes through the Bukkit API, which broadcasts a packet for the
+ * prefix, one for the suffix and one for the title.
+ * </p>
+ * <p>
  * <strong>Thread Safety:</strong> All methods that modify state must be called from the main thread.
  * </p>
  *
  * @since 1.0
  */
-public final class TeamBoardImpl implements Board {
+public final class TeamBoardImpl extends AbstractBoard {
 
-    private static final int MAX_LINES = 15;
-    public static final String OBJECTIVE_NAME = "scorefx_board";
-    private static final String TEAM_PREFIX = "sfx_line_";
-    private static final int TITLE_ROW = -1; // Special row number for title
-    
-    private final Player player;
     private final Scoreboard scoreboard;
     private final Objective objective;
-    private final Map<Integer, Team> teams;
-    private final Map<Integer, String> entries; // Stores the entry string for each line
-    private final Heartbeat heartbeat;
-    
-    // Animation tracking
-    private final Map<Integer, Animation> activeAnimations; // row -> animation (or TITLE_ROW for title)
-    private Animation titleAnimation;
-    
-    // Custom score tracking (v1.2.0)
-    private final Map<Integer, Component> customScores; // row -> custom score component
-    
-    // Batching (v2.0.1) - Queue updates and flush at tick end for better performance
-    private final Map<Integer, Component> pendingLineUpdates; // row -> pending component update
-    private Component pendingTitleUpdate; // null = no pending title update
-    
-    // Visibility tracking (v2.0.1) - Skip updates when board is hidden
-    private boolean visible;
+    private final Object objectiveHandle; // NMS objective behind the Bukkit one, or null
+    private final Team[] teams; // index = row (0-15)
+    private final Object[] teamHandles; // NMS teams behind the Bukkit teams; index = row
+    private final boolean directTeams; // Line text is sent as team packets, see sendLineText
+    private final boolean objectiveFormatBlank; // Scores without a custom score inherit BLANK
     
     /**
      * Creates a new TeamBoardImpl for the specified player.
@@ -84,16 +69,22 @@ public final class TeamBoardImpl implements Board {
      * @param heartbeat the Heartbeat scheduler for task scheduling, must not be null
      */
     public TeamBoardImpl(@NotNull Player player, @NotNull Heartbeat heartbeat) {
-        this.player = player;
-        this.heartbeat = heartbeat;
-        this.teams = new HashMap<>();
-        this.entries = new HashMap<>();
-        this.activeAnimations = new HashMap<>();
-        this.titleAnimation = null;
-        this.customScores = new ConcurrentHashMap<>();
-        this.pendingLineUpdates = new HashMap<>();
-        this.pendingTitleUpdate = null;
-        this.visible = true; // Visible by default
+        this(player, heartbeat, LineRendering.TEAMS);
+    }
+    
+    /**
+     * Creates a new TeamBoardImpl for the specified player with the given line rendering.
+     * With {@link LineRendering#SCORE_DISPLAY} no teams are registered.
+     *
+     * @param player the player who owns this board, must not be null
+     * @param heartbeat the Heartbeat scheduler for task scheduling, must not be null
+     * @param lineRendering where the text of lines goes, must not be null
+     * @since 2.1.0
+     */
+    public TeamBoardImpl(@NotNull Player player, @NotNull Heartbeat heartbeat, @NotNull LineRendering lineRendering) {
+        super(player, heartbeat, lineRendering);
+        this.teams = new Team[MAX_LINES + 1];
+        this.teamHandles = new Object[MAX_LINES + 1];
         
         // Create a new scoreboard for this player
         this.scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
@@ -104,390 +95,118 @@ public final class TeamBoardImpl implements Board {
             "dummy"
         );
         this.objective.displayName(Component.empty());
-
+        this.objectiveFormatBlank = applyBlankNumberFormat(objective);
+        this.objectiveHandle = PacketHelper.getObjectiveHandle(objective);
+        
         this.objective.setDisplaySlot(DisplaySlot.SIDEBAR);
         
         // Pre-create all 16 teams (for lines 0-15, where 0 is unused but reserved)
-        for (int i = 0; i <= MAX_LINES; i++) {
+        boolean handles = PacketHelper.isTeamHandleSupported();
+        for (int i = 0; i <= MAX_LINES && usesTeams(); i++) {
             Team team = scoreboard.registerNewTeam(TEAM_PREFIX + i);
-            teams.put(i, team);
+            teams[i] = team;
             
-            // Create a unique entry for this line using color codes
-            // We use invisible characters to make each entry unique
-            String entry = generateEntry(i);
-            entries.put(i, entry);
-            team.addEntry(entry);
+            // Each line's unique entry is the only member of its team
+            team.addEntry(getEntry(i));
+            
+            // v2.1.0: Written directly, so a line change sends a single packet
+            teamHandles[i] = handles ? PacketHelper.getTeamHandle(team) : null;
+            handles &= teamHandles[i] != null;
         }
+        this.directTeams = handles && usesTeams();
         
         // Set the player's scoreboard
         player.setScoreboard(scoreboard);
     }
     
     /**
-     * Generates a unique entry string for a scoreboard line.
-     * <p>
-     * Each line needs a unique entry (the actual score holder). We use
-     * invisible/formatting codes to create unique strings that won't be visible.
-     * </p>
+     * Hides the numbers of every score on the objective itself, so score packets only need a
+     * number format for custom scores.
      *
-     * @param lineNumber the line number (0-15)
-     * @return a unique entry string
+     * @param objective the sidebar objective
+     * @return true if the objective's number format is now blank
+     * @since 2.1.0
      */
-    @NotNull
-    private String generateEntry(int lineNumber) {
-        // Use § codes to create invisible unique entries
-        // §r resets formatting, and we can chain invisible characters
-        return "§" + Integer.toHexString(lineNumber) + "§r";
-    }
-    
-    @Override
-    public void setTitle(@NotNull Component title) {
-        checkMainThread();
-        
-        if (title == null) {
-            throw new IllegalArgumentException("Title cannot be null");
-        }
-        
-        // Cancel any existing title animation
-        cancelTitleAnimation();
-        
-        // Set the title directly using the Component
-        objective.displayName(title);
-        
-        // Note: PlaceholderAPI is not supported for Component-based content
-        // If placeholders are needed, use the legacy String-based method
-    }
-    
-    @Override
-    public void setTitle(@NotNull String title) {
-        checkMainThread();
-        
-        if (title == null) {
-            throw new IllegalArgumentException("Title cannot be null");
-        }
-        
-        // Cancel any existing title animation
-        cancelTitleAnimation();
-        
-        // Convert legacy String to Component (Adventure-First)
-        Component titleComponent = LegacySupport.toComponent(title);
-        
-        // Set the title using the Component method
-        objective.displayName(titleComponent);
-        
-        // If the title contains placeholders, schedule periodic updates
-        if (PAPIHook.hasPlaceholders(title)) {
-            scheduleRecurringTitleUpdate(title, 20); // Update every second by default
-        }
-    }
-    
-    @Override
-    public void setAnimatedTitle(@NotNull Animation titleAnimation) {
-        checkMainThread();
-        
-        if (titleAnimation == null) {
-            throw new IllegalArgumentException("Title animation cannot be null");
-        }
-        
-        // Cancel any existing title animation
-        cancelTitleAnimation();
-        
-        // Store the animation
-        this.titleAnimation = titleAnimation;
-        this.activeAnimations.put(TITLE_ROW, titleAnimation);
-        
-        // v2.0.1: Track reference for SharedAnimation
-        if (titleAnimation instanceof com.dripps.scorefx.animation.SharedAnimation sharedAnimation) {
-            sharedAnimation.addReference();
-        }
-        
-        // Schedule the animation task with the Heartbeat
-        UpdateTask task = new UpdateTask(
-            UpdateTask.TaskType.TITLE_ANIMATION,
-            player.getUniqueId(),
-            heartbeat.getCurrentTick() + titleAnimation.getIntervalTicks(),
-            TITLE_ROW,
-            "", // Text not used for animations (animation provides frames)
-            generateAnimationId(TITLE_ROW),
-            titleAnimation.getIntervalTicks()
-        );
-        
-        heartbeat.scheduleTask(task);
-        
-        // Immediately show the first frame (now returns Component)
-        Component firstFrame = titleAnimation.nextFrame();
-        updateTitleDirect(firstFrame);
-        
-        // Re-register the animation since updateTitleDirect doesn't cancel it
-        // (but we need to ensure it's tracked)
-        this.titleAnimation = titleAnimation;
-        this.activeAnimations.put(TITLE_ROW, titleAnimation);
-    }
-    
-    @Override
-    public void setLine(int row, @NotNull Component text) {
-        setLine(row, text, 20); // Default to updating every second
-    }
-    
-    @Override
-    public void setLine(int row, @NotNull Component text, int updateIntervalTicks) {
-        checkMainThread();
-        validateRow(row);
-        
-        if (text == null) {
-            throw new IllegalArgumentException("Text cannot be null");
-        }
-        
-        if (updateIntervalTicks < 1) {
-            throw new IllegalArgumentException("Update interval must be at least 1 tick");
-        }
-        
-        // Cancel any existing animation for this row
-        cancelLineAnimation(row);
-        
-        // Get the team for this row
-        Team team = teams.get(row);
-        if (team == null) {
-            throw new IllegalStateException("Team for row " + row + " not found");
-        }
-        
-        // Split the Component into prefix and suffix using ComponentLineSplitter
-        ComponentLineSplitter.SplitResult split = ComponentLineSplitter.split(text);
-        
-        // Update the team's prefix and suffix (flicker-free!) using Component API
-        team.prefix(split.prefix());
-        team.suffix(split.suffix());
-        
-        // Send the score packet directly using PacketHelper (v2.0)
-        String entry = entries.get(row);
-        Component customScore = customScores.get(row); // null = hidden score (default)
-        PacketHelper.sendScorePacket(player, OBJECTIVE_NAME, entry, row, customScore);
-        
-        // Note: PlaceholderAPI is not supported for Component-based content
-        // If placeholders are needed, use the legacy String-based method
-    }
-    
-    @Override
-    public void setLine(int row, @NotNull String text) {
-        setLine(row, text, 20); // Default to updating every second
-    }
-    
-    @Override
-    public void setLine(int row, @NotNull String text, int updateIntervalTicks) {
-        checkMainThread();
-        validateRow(row);
-        
-        if (text == null) {
-            throw new IllegalArgumentException("Text cannot be null");
-        }
-        
-        if (updateIntervalTicks < 1) {
-            throw new IllegalArgumentException("Update interval must be at least 1 tick");
-        }
-        
-        // Cancel any existing animation for this row
-        cancelLineAnimation(row);
-        
-        // Convert legacy String to Component (Adventure-First)
-        Component textComponent = LegacySupport.toComponent(text);
-        
-        // Get the team for this row
-        Team team = teams.get(row);
-        if (team == null) {
-            throw new IllegalStateException("Team for row " + row + " not found");
-        }
-        
-        // Split the Component into prefix and suffix
-        ComponentLineSplitter.SplitResult split = ComponentLineSplitter.split(textComponent);
-        
-        // Update the team's prefix and suffix (flicker-free!)
-        team.prefix(split.prefix());
-        team.suffix(split.suffix());
-        
-        // Send the score packet directly using PacketHelper (v2.0)
-        String entry = entries.get(row);
-        Component customScore = customScores.get(row); // null = hidden score (default)
-        PacketHelper.sendScorePacket(player, OBJECTIVE_NAME, entry, row, customScore);
-        
-        // If the text contains placeholders, schedule periodic updates
-        if (PAPIHook.hasPlaceholders(text)) {
-            scheduleRecurringLineUpdate(row, text, updateIntervalTicks);
+    private static boolean applyBlankNumberFormat(@NotNull Objective objective) {
+        try {
+            objective.numberFormat(NumberFormat.blank());
+            return true;
+        } catch (NoSuchMethodError | UnsupportedOperationException e) {
+            // Older API - every score packet carries the BLANK format instead
+            return false;
         }
     }
     
     @Override
-    public void setAnimatedLine(int row, @NotNull Animation animation) {
-        checkMainThread();
-        validateRow(row);
-        
-        if (animation == null) {
-            throw new IllegalArgumentException("Animation cannot be null");
-        }
-        
-        // Cancel any existing animation for this row
-        cancelLineAnimation(row);
-        
-        // Store the animation
-        activeAnimations.put(row, animation);
-        
-        // v2.0.1: Track reference for SharedAnimation
-        if (animation instanceof com.dripps.scorefx.animation.SharedAnimation sharedAnimation) {
-            sharedAnimation.addReference();
+    protected void sendTitle(@NotNull Component title, @Nullable FramePayload payload) {
+        // v2.1.0: Set silently and sent with the commit's other packets
+        if (objectiveHandle != null && PacketHelper.setObjectiveTitle(objectiveHandle, title)) {
+            // A shared frame's packet matches this objective once its numbers are blank too
+            Object packet = payload != null && objectiveFormatBlank ? getSharedTitlePacket(payload) : null;
+            if (packet == null) {
+                packet = PacketHelper.createObjectivePacket(objectiveHandle, null, PacketHelper.OBJECTIVE_CHANGE);
+            }
+            if (packet != null) {
+                sendPacket(packet);
+                return;
+            }
         }
         
-        // Schedule the animation task with the Heartbeat
-        UpdateTask task = new UpdateTask(
-            UpdateTask.TaskType.LINE_ANIMATION,
-            player.getUniqueId(),
-            heartbeat.getCurrentTick() + animation.getIntervalTicks(),
-            row,
-            "", // Text not used for animations (animation provides frames)
-            generateAnimationId(row),
-            animation.getIntervalTicks()
-        );
-        
-        heartbeat.scheduleTask(task);
-        
-        // Immediately show the first frame (now returns Component)
-        Component firstFrame = animation.nextFrame();
-        updateLineDirect(row, firstFrame);
-        
-        // Re-register the animation since updateLineDirect doesn't cancel it
-        activeAnimations.put(row, animation);
-    }
-    
-    @Override
-    public void removeLine(int row) {
-        checkMainThread();
-        validateRow(row);
-        
-        // Cancel any animation for this row
-        cancelLineAnimation(row);
-        
-        // Remove custom score tracking
-        customScores.remove(row);
-        
-        // Send remove packet using PacketHelper (v2.0)
-        String entry = entries.get(row);
-        PacketHelper.sendRemoveScorePacket(player, OBJECTIVE_NAME, entry);
-        
-        // Clear the team's prefix and suffix
-        Team team = teams.get(row);
-        if (team != null) {
-            team.prefix(net.kyori.adventure.text.Component.empty());
-            team.suffix(net.kyori.adventure.text.Component.empty());
-        }
+        objective.displayName(title); // Broadcast by the server
     }
     
-    @NotNull
     @Override
-    public Player getPlayer() {
-        return player;
-    }
-    
-    /**
-     * Flushes all pending updates to the scoreboard.
-     * <p>
-     * This method applies all queued line and title updates in a single batch operation.
-     * This is a critical optimization in v2.0.1 that reduces packet overhead by batching
-     * multiple updates together instead of sending them individually.
-     * </p>
-     * <p>
-     * This method is called by the Heartbeat at the end of each tick after all animation
-     * frames have been calculated.
-     * </p>
-     *
-     * @since 2.0.1
-     */
-    public void flushUpdates() {
-        // Flush pending title update
-        if (pendingTitleUpdate != null) {
-            objective.displayName(pendingTitleUpdate);
-            pendingTitleUpdate = null;
+    protected void sendLineText(
+        int row,
+        @NotNull Component prefix,
+        @NotNull Component suffix,
+        @Nullable Object teamPacket
+    ) {
+        // v2.1.0: Keep the Bukkit team in step silently, the packet updates the client
+        if (teamPacket != null && PacketHelper.setTeamText(teamHandles[row], prefix, suffix)) {
+            sendPacket(teamPacket);
+            return;
         }
         
-        // Flush all pending line updates
-        if (!pendingLineUpdates.isEmpty()) {
-            for (Map.Entry<Integer, Component> entry : pendingLineUpdates.entrySet()) {
-                int row = entry.getKey();
-                Component component = entry.getValue();
-                
-                Team team = teams.get(row);
-                if (team == null) {
-                    continue;
-                }
-                
-                // Split the Component into prefix and suffix using ComponentLineSplitter
-                ComponentLineSplitter.SplitResult split = ComponentLineSplitter.split(component);
-                
-                // Update the team's prefix and suffix using Component API
-                team.prefix(split.prefix());
-                team.suffix(split.suffix());
-                
-                // Send the score packet directly using PacketHelper (v2.0)
-                String entryString = entries.get(row);
-                Component customScore = customScores.get(row); // null = hidden score (default)
-                PacketHelper.sendScorePacket(player, OBJECTIVE_NAME, entryString, row, customScore);
-            }
-            
-            pendingLineUpdates.clear();
-        }
+        // Each call broadcasts its own team packet
+        Team team = teams[row];
+        team.prefix(prefix);
+        team.suffix(suffix);
     }
     
     /**
-     * Checks if this board is currently visible to the player.
+     * Team packets are sent where the Bukkit teams can be updated without a broadcast, see
+     * the class documentation.
      *
-     * @return true if visible, false if hidden
-     * @since 2.0.1
+     * @return true if every team's NMS handle was resolved
      */
-    public boolean isVisible() {
-        return visible;
+    @Override
+    protected boolean sendsTeamPackets() {
+        return directTeams;
     }
     
-    /**
-     * Sets the visibility of this board.
-     * <p>
-     * When a board is hidden, all update operations are skipped to avoid wasteful
-     * packet sends. This is a performance optimization introduced in v2.0.1.
-     * </p>
-     *
-     * @param visible true to show the board, false to hide it
-     * @since 2.0.1
-     */
-    public void setVisible(boolean visible) {
-        this.visible = visible;
-        
-        if (!visible) {
-            // Clear any pending updates when hiding
-            pendingLineUpdates.clear();
-            pendingTitleUpdate = null;
-        }
+    @Override
+    protected boolean isObjectiveFormatBlank() {
+        return objectiveFormatBlank;
     }
     
     /**
-     * Cleans up this board and all its resources.
-     * <p>
-     * This method unregisters all teams, the objective, and resets the player's
-     * scoreboard to the server default. It also cancels all scheduled tasks and animations.
-     * </p>
+     * Unregisters all teams and the objective, and resets the player's scoreboard to the
+     * server default.
      */
-    public void destroy() {
-        checkMainThread();
-        
-        // Cancel all animations (this will be handled by Heartbeat.unregisterBoard)
-        // but we clear our local references
-        activeAnimations.clear();
-        titleAnimation = null;
-        
+    @Override
+    protected void removeFromClient() {
         // Unregister all teams
-        for (Team team : teams.values()) {
+        for (Team team : teams) {
+            if (team == null) {
+                continue; // Lines rendered as score display components
+            }
             try {
                 team.unregister();
             } catch (IllegalStateException ignored) {
                 // Team already unregistered
             }
         }
-        teams.clear();
         
         // Unregister the objective
         try {
@@ -497,250 +216,9 @@ public final class TeamBoardImpl implements Board {
         }
         
         // Reset player's scoreboard to server default
+        Player player = getPlayer();
         if (player.isOnline()) {
             player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
         }
-        
-        entries.clear();
-    }
-    
-    /**
-     * Gets the active animation for a specific row.
-     * <p>
-     * This is used by the Heartbeat to advance animation frames.
-     * </p>
-     *
-     * @param row the row number, or TITLE_ROW for the title
-     * @return the animation, or null if no animation is active for this row
-     */
-    @Nullable
-    public Animation getAnimation(int row) {
-        return activeAnimations.get(row);
-    }
-    
-    /**
-     * Updates the title to display the given text directly (bypassing setTitle to avoid canceling animations).
-     * <p>
-     * This is an internal method used by the Heartbeat to update animated titles.
-     * </p>
-     *
-     * @param text the text to display
-     */
-    /**
-     * Updates the title to display the given Component directly (bypassing setTitle to avoid canceling animations).
-     * <p>
-     * This is an internal method used by the Heartbeat to update animated titles and scheduled title updates.
-     * As of v2.0.1, this queues the update for batching instead of applying immediately.
-     * </p>
-     *
-     * @param component the Component to display as the title
-     * @since 1.1.0 (changed from String to Component)
-     * @since 2.0.1 (batching support)
-     */
-    public void updateTitleDirect(@NotNull Component component) {
-        // v2.0.1: Skip update if board is hidden
-        if (!visible) {
-            return;
-        }
-        
-        // v2.0.1: Queue update for batching instead of applying immediately
-        pendingTitleUpdate = component;
-    }
-    
-    /**
-     * Updates a line to display the given Component directly (bypassing setLine to avoid canceling animations).
-     * <p>
-     * This is an internal method used by the Heartbeat to update animated lines and scheduled line updates.
-     * As of v2.0.1, this queues the update for batching instead of applying immediately.
-     * </p>
-     *
-     * @param row the row number
-     * @param component the Component to display
-     * @since 1.1.0 (changed from String to Component)
-     * @since 2.0.1 (batching support)
-     */
-    public void updateLineDirect(int row, @NotNull Component component) {
-        // v2.0.1: Skip update if board is hidden
-        if (!visible) {
-            return;
-        }
-        
-        // v2.0.1: Queue update for batching instead of applying immediately
-        pendingLineUpdates.put(row, component);
-    }
-    
-    /**
-     * Cancels the title animation if one is active.
-     */
-    private void cancelTitleAnimation() {
-        if (titleAnimation != null) {
-            activeAnimations.remove(TITLE_ROW);
-            
-            // v2.0.1: Release reference for SharedAnimation
-            if (titleAnimation instanceof com.dripps.scorefx.animation.SharedAnimation sharedAnimation) {
-                sharedAnimation.removeReference();
-            }
-            
-            titleAnimation = null;
-            // Task cancellation is handled by the next animation task or board removal
-        }
-    }
-    
-    /**
-     * Cancels any animation for the specified row.
-     *
-     * @param row the row number
-     */
-    private void cancelLineAnimation(int row) {
-        Animation animation = activeAnimations.remove(row);
-        
-        // v2.0.1: Release reference for SharedAnimation
-        if (animation instanceof com.dripps.scorefx.animation.SharedAnimation sharedAnimation) {
-            sharedAnimation.removeReference();
-        }
-        
-        // Task cancellation is handled by the next animation task or board removal
-    }
-    
-    /**
-     * Generates a unique animation ID for tracking.
-     *
-     * @param row the row number (or TITLE_ROW for title)
-     * @return a unique animation ID string
-     */
-    @NotNull
-    private String generateAnimationId(int row) {
-        return "anim_" + player.getUniqueId() + "_" + row + "_" + System.currentTimeMillis();
-    }
-    
-    /**
-     * Schedules a recurring title update task for placeholder replacement.
-     *
-     * @param text the text containing placeholders
-     * @param intervalTicks the interval in ticks between updates
-     */
-    private void scheduleRecurringTitleUpdate(@NotNull String text, int intervalTicks) {
-        UpdateTask task = new UpdateTask(
-            UpdateTask.TaskType.TITLE_UPDATE,
-            player.getUniqueId(),
-            heartbeat.getCurrentTick() + intervalTicks,
-            TITLE_ROW,
-            text,
-            null, // No animation ID for placeholder updates
-            intervalTicks
-        );
-        
-        heartbeat.scheduleTask(task);
-    }
-    
-    /**
-     * Schedules a recurring line update task for placeholder replacement.
-     *
-     * @param row the row number
-     * @param text the text containing placeholders
-     * @param intervalTicks the interval in ticks between updates
-     */
-    private void scheduleRecurringLineUpdate(int row, @NotNull String text, int intervalTicks) {
-        UpdateTask task = new UpdateTask(
-            UpdateTask.TaskType.LINE_UPDATE,
-            player.getUniqueId(),
-            heartbeat.getCurrentTick() + intervalTicks,
-            row,
-            text,
-            null, // No animation ID for placeholder updates
-            intervalTicks
-        );
-        
-        heartbeat.scheduleTask(task);
-    }
-    
-    /**
-     * Validates that the given row number is within the valid range (1-15).
-     *
-     * @param row the row number to validate
-     * @throws IllegalArgumentException if the row is not between 1 and 15
-     */
-    private void validateRow(int row) {
-        if (row < 1 || row > MAX_LINES) {
-            throw new IllegalArgumentException(
-                "Row must be between 1 and " + MAX_LINES + ", got: " + row
-            );
-        }
-    }
-    
-    /**
-     * Ensures that the current thread is the main server thread.
-     * <p>
-     * This is a critical safety check to prevent concurrent modification issues
-     * and comply with the Bukkit API's threading requirements.
-     * </p>
-     *
-     * @throws IllegalStateException if called from a non-main thread
-     */
-    private void checkMainThread() {
-        if (!Bukkit.isPrimaryThread()) {
-            throw new IllegalStateException(
-                "ScoreFX API must be accessed from the main server thread. " +
-                "Current thread: " + Thread.currentThread().getName()
-            );
-        }
-    }
-    
-    // ==================== Custom Score API (v1.2.0 / v2.0.0) ====================
-    
-    @Override
-    public void setLineScore(int row, @Nullable Component score) {
-        checkMainThread();
-        validateRow(row);
-        
-        if (score == null || score.equals(Component.empty())) {
-            // Remove custom score (revert to hidden)
-            customScores.remove(row);
-        } else {
-            // Set custom score
-            customScores.put(row, score);
-        }
-        
-        // Immediately send updated packet with new score format (v2.0)
-        String entry = entries.get(row);
-        int displayScore = row; // The numeric score value (row number for positioning)
-        PacketHelper.sendScorePacket(player, OBJECTIVE_NAME, entry, displayScore, score);
-    }
-    
-    @Override
-    public void setLine(int row, @NotNull Component text, @Nullable Component score) {
-        // Delegate to existing setLine for text
-        setLine(row, text);
-        
-        // Set the custom score
-        setLineScore(row, score);
-    }
-    
-    @Deprecated(since = "1.2.0", forRemoval = false)
-    @Override
-    public void setLine(int row, @NotNull String text, @Nullable String score) {
-        // Convert both parameters to Components
-        Component textComponent = LegacySupport.toComponent(text);
-        Component scoreComponent = (score != null) ? LegacySupport.toComponent(score) : null;
-        
-        // Delegate to Component-based method
-        setLine(row, textComponent, scoreComponent);
-    }
-    
-    /**
-     * Retrieves the custom score component for a specific row.
-     * <p>
-     * This method is used internally to determine what custom score format to
-     * display in the score slot for each line. Returns empty Optional if no
-     * custom score is set (defaults to hidden/BLANK format).
-     * </p>
-     *
-     * @param row the row number (1-15)
-     * @return an Optional containing the custom score Component, or empty if no custom score is set
-     * @since 1.2.0
-     */
-    @NotNull
-    public Optional<Component> getCustomScore(int row) {
-        return Optional.ofNullable(customScores.get(row));
     }
 }
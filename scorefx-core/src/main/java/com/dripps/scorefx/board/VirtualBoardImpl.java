@@ -0,0 +1,116 @@
+package com.dripps.scorefx.board;
+
+import com.dripps.scorefx.animation.FramePayload;
+import com.dripps.scorefx.api.Board;
+import com.dripps.scorefx.scheduler.Heartbeat;
+import com.dripps.scorefx.util.PacketHelper;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Implementation of the {@link Board} interface that exists only as packets.
+ * <p>
+ * Unlike {@link TeamBoardImpl}, this board creates no Bukkit {@code Scoreboard}, objective
+ * or teams. The objective, its sidebar display slot, the 16 line teams and all scores are
+ * written straight to the player's connection through {@link PacketHelper}, and the only
+ * server-side state is the compact model in {@link AbstractBoard} plus one detached NMS
+ * objective and team per line used to build packets (no teams with
+ * {@link LineRendering#SCORE_DISPLAY}). The server has no scoreboard to track or
+ * broadcast changes for.
+ * </p>
+ * <p>
+ * The player stays on the server's main scoreboard. Another plugin that shows its own
+ * sidebar objective to the player replaces this board on the client.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> All methods that modify state must be called from the main thread.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class VirtualBoardImpl extends AbstractBoard {
+
+    private final Object packetObjective; // Detached NMS objective used to build objective packets
+    
+    /**
+     * Creates a new VirtualBoardImpl and shows it to the player.
+     *
+     * @param player the player who owns this board, must not be null
+     * @param heartbeat the Heartbeat scheduler for task scheduling, must not be null
+     * @param lineRendering where the text of lines goes, must not be null
+     * @throws IllegalStateException if the server does not support virtual boards
+     * @see PacketHelper#isVirtualBoardSupported()
+     */
+    public VirtualBoardImpl(@NotNull Player player, @NotNull Heartbeat heartbeat, @NotNull LineRendering lineRendering) {
+        super(player, heartbeat, lineRendering);
+        
+        Object objective = PacketHelper.createPacketObjective(OBJECTIVE_NAME);
+        if (objective == null) {
+            throw new IllegalStateException("Virtual boards are not supported on this server");
+        }
+        this.packetObjective = objective;
+        
+        // Create the objective and show it on the sidebar
+        sendPacket(PacketHelper.createObjectivePacket(packetObjective, null, PacketHelper.OBJECTIVE_ADD));
+        sendPacket(PacketHelper.createSidebarPacket(packetObjective));
+        
+        // Create all 16 teams (for lines 0-15, where 0 is unused but reserved) with their entries
+        for (int i = 0; i <= MAX_LINES && usesTeams(); i++) {
+            Object packetTeam = getPacketTeam(i);
+            if (packetTeam != null) {
+                sendPacket(PacketHelper.createTeamAddPacket(packetTeam));
+            }
+        }
+    }
+    
+    @Override
+    protected void sendTitle(@NotNull Component title, @Nullable FramePayload payload) {
+        // A shared frame's packet is the same for every virtual board
+        Object packet = payload != null ? getSharedTitlePacket(payload) : null;
+        if (packet == null) {
+            packet = PacketHelper.createObjectivePacket(packetObjective, title, PacketHelper.OBJECTIVE_CHANGE);
+        }
+        sendPacket(packet);
+    }
+    
+    @Override
+    protected void sendLineText(
+        int row,
+        @NotNull Component prefix,
+        @NotNull Component suffix,
+        @Nullable Object teamPacket
+    ) {
+        // There is no Bukkit team to fall back to; a packet that failed to build was logged
+        sendPacket(teamPacket);
+    }
+    
+    @Override
+    protected boolean sendsTeamPackets() {
+        return true; // The client holds the only copy of the teams
+    }
+    
+    @Override
+    protected boolean isObjectiveFormatBlank() {
+        return true; // Set on the packet objective
+    }
+    
+    /**
+     * Removes the teams and the objective from the client, which also clears the sidebar.
+     */
+    @Override
+    protected void removeFromClient() {
+        if (!getPlayer().isOnline()) {
+            return;
+        }
+        
+        for (int i = 0; i <= MAX_LINES && usesTeams(); i++) {
+            Object packetTeam = getPacketTeam(i);
+            if (packetTeam != null) {
+                sendPacket(PacketHelper.createTeamRemovePacket(packetTeam));
+            }
+        }
+        sendPacket(PacketHelper.createObjectivePacket(packetObjective, null, PacketHelper.OBJECTIVE_REMOVE));
+    }
+}
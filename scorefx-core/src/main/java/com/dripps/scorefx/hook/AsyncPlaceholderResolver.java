@@ -0,0 +1,188 @@
+package com.dripps.scorefx.hook;
+
+import com.dripps.scorefx.util.LegacySupport;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves PlaceholderAPI placeholders off the main thread on virtual threads.
+ * <p>
+ * Some expansions (economy, database statistics) block for milliseconds per call. Texts whose
+ * placeholders all belong to expansions on an allowlist of async-safe identifiers can be
+ * {@linkplain #submit submitted} here instead of being resolved in the tick: each submission
+ * runs on its own virtual thread, converts the result to a Component and hands it back through
+ * a lock-free queue that the {@link com.dripps.scorefx.scheduler.Heartbeat Heartbeat}
+ * {@linkplain #drain drains} on its own thread.
+ * </p>
+ * <p>
+ * Only expansions that are safe to call from any thread may be allowlisted; ScoreFX cannot
+ * verify this. Deduplication of in-flight requests is left to the caller, which knows the
+ * line each request belongs to.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> {@link #submit} and {@link #drain} may be called from any
+ * thread; results are delivered on the thread that drains them.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class AsyncPlaceholderResolver {
+
+    private final PAPIHook papiHook;
+    private final Logger logger;
+    private final Set<String> asyncExpansions; // Lower-case expansion identifiers
+    private final ExecutorService executor;
+    private final Queue<Resolved> results;
+    
+    /**
+     * Creates a new AsyncPlaceholderResolver.
+     *
+     * @param papiHook the PlaceholderAPI hook used for resolution, must not be null
+     * @param asyncExpansions identifiers of the expansions that are safe to call off the main thread
+     * @param logger the logger for diagnostic messages, must not be null
+     */
+    public AsyncPlaceholderResolver(
+        @NotNull PAPIHook papiHook,
+        @NotNull Set<String> asyncExpansions,
+        @NotNull Logger logger
+    ) {
+        if (papiHook == null) {
+            throw new IllegalArgumentException("PAPIHook cannot be null");
+        }
+        if (asyncExpansions == null) {
+            throw new IllegalArgumentException("Async expansions cannot be null");
+        }
+        if (logger == null) {
+            throw new IllegalArgumentException("Logger cannot be null");
+        }
+        
+        this.papiHook = papiHook;
+        this.logger = logger;
+        this.asyncExpansions = asyncExpansions.stream()
+            .map(identifier -> identifier.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.results = new ConcurrentLinkedQueue<>();
+    }
+    
+    /**
+     * Checks whether a text can be resolved off the main thread.
+     * <p>
+     * A text qualifies if PlaceholderAPI is available, the text contains at least one
+     * placeholder, and every placeholder belongs to an allowlisted expansion. The expansion
+     * identifier is the part of a placeholder before its first underscore, e.g. {@code vault}
+     * for {@code %vault_eco_balance%}.
+     * </p>
+     *
+     * @param text the text to check, must not be null
+     * @return true if the text may be passed to {@link #submit}
+     */
+    public boolean isAsyncSafe(@NotNull String text) {
+        if (!papiHook.isAvailable() || asyncExpansions.isEmpty()) {
+            return false;
+        }
+        
+        boolean found = false;
+        int start = text.indexOf('%');
+        while (start != -1) {
+            int end = text.indexOf('%', start + 1);
+            if (end == -1) {
+                break;
+            }
+            
+            String placeholder = text.substring(start + 1, end);
+            int underscore = placeholder.indexOf('_');
+            String identifier = underscore == -1 ? placeholder : placeholder.substring(0, underscore);
+            if (!asyncExpansions.contains(identifier.toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+            
+            found = true;
+            start = text.indexOf('%', end + 1);
+        }
+        
+        return found;
+    }
+    
+    /**
+     * Resolves a text on a virtual thread; the result becomes available to {@link #drain}.
+     *
+     * @param key an identifier returned with the result, e.g. a task reference
+     * @param player the player for whom to replace placeholders, must not be null
+     * @param text an {@linkplain #isAsyncSafe async-safe} text, must not be null
+     * @return true if the text was submitted, false if the resolver has been closed
+     */
+    public boolean submit(long key, @NotNull Player player, @NotNull String text) {
+        try {
+            executor.execute(() -> {
+                Component component = null;
+                try {
+                    component = LegacySupport.toComponent(papiHook.setPlaceholders(player, text));
+                } catch (RuntimeException e) {
+                    logger.warning("Error resolving placeholders off the main thread: " + e.getMessage());
+                } finally {
+                    // Always report back so the caller can release its in-flight marker
+                    results.offer(new Resolved(key, component));
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Hands every result completed so far to the consumer, oldest first.
+     *
+     * @param consumer receives each result, must not be null
+     */
+    public void drain(@NotNull Consumer<Resolved> consumer) {
+        Resolved resolved;
+        while ((resolved = results.poll()) != null) {
+            consumer.accept(resolved);
+        }
+    }
+    
+    /** Discards every result that has not been drained yet. */
+    public void clearResults() {
+        results.clear();
+    }
+    
+    /** Returns the lower-case identifiers of the expansions resolved off the main thread. */
+    @NotNull
+    public Set<String> getAsyncExpansions() {
+        return asyncExpansions;
+    }
+    
+    /**
+     * Stops accepting submissions and interrupts resolutions still running. Results that
+     * complete afterwards are discarded.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        results.clear();
+        logger.fine("Async placeholder resolver shut down");
+    }
+    
+    /**
+     * A resolved placeholder text.
+     *
+     * @param key the identifier passed to {@link #submit}
+     * @param component the resolved text converted to a Component, or null if resolution failed
+     */
+    public record Resolved(long key, @Nullable Component component) {
+    }
+}
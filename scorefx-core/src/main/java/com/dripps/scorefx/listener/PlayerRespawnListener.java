@@ -0,0 +1,51 @@
+package com.dripps.scorefx.listener;
+
+import com.dripps.scorefx.api.BoardManager;
+import com.dripps.scorefx.board.AbstractBoard;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listens for player respawn events to refresh the connection cached by boards.
+ * <p>
+ * Boards resolve the player's network connection once and keep it (since v2.1.0). The
+ * server may replace the player's handle on respawn, so the board drops its cached
+ * connection and resolves it again on the next packet.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class PlayerRespawnListener implements Listener {
+
+    private final BoardManager boardManager;
+    
+    /**
+     * Creates a new PlayerRespawnListener.
+     *
+     * @param boardManager the board manager holding the boards, must not be null
+     */
+    public PlayerRespawnListener(@NotNull BoardManager boardManager) {
+        if (boardManager == null) {
+            throw new IllegalArgumentException("BoardManager cannot be null");
+        }
+        
+        this.boardManager = boardManager;
+    }
+    
+    /**
+     * Handles player respawn events by invalidating the board's cached connection.
+     *
+     * @param event the player respawn event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(@NotNull PlayerRespawnEvent event) {
+        boardManager.getBoard(event.getPlayer()).ifPresent(board -> {
+            if (board instanceof AbstractBoard abstractBoard) {
+                abstractBoard.invalidateSender();
+            }
+        });
+    }
+}
@@ -2,8 +2,14 @@ package com.dripps.scorefx.manager;
 
 import com.dripps.scorefx.api.Board;
 import com.dripps.scorefx.api.BoardManager;
+import com.dripps.scorefx.board.AbstractBoard;
+import com.dripps.scorefx.board.BoardMode;
+import com.dripps.scorefx.board.LineRendering;
 import com.dripps.scorefx.board.TeamBoardImpl;
+import com.dripps.scorefx.board.VirtualBoardImpl;
 import com.dripps.scorefx.scheduler.Heartbeat;
+import com.dripps.scorefx.util.PacketHelper;
+import com.dripps.scorefx.util.RegionSupport;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -24,14 +30,22 @@ import java.util.logging.Logger;
  * <p>
  * <strong>Thread Safety:</strong> This class uses a {@link ConcurrentHashMap} for
  * thread-safe board storage, but all modification methods enforce main-thread access
- * to comply with Bukkit API requirements.
+ * to comply with Bukkit API requirements. On Folia, boards are created and removed on
+ * the region thread that owns the player instead.
+ * </p>
+ * <p>
+ * <strong>Board Mode (v2.1.0):</strong> New boards are {@link TeamBoardImpl}s or, in
+ * {@link BoardMode#VIRTUAL} mode, packet-only {@link VirtualBoardImpl}s. Either kind
+ * renders its lines as configured by {@link #setLineRendering(LineRendering)}.
  * </p>
  */
 public final class BoardManagerImpl implements BoardManager {
-    
+
     private final Heartbeat heartbeat;
     private final Logger logger;
     private final Map<UUID, Board> activeBoards;
+    private volatile BoardMode boardMode;
+    private volatile LineRendering lineRendering;
     
     /**
      * Creates a new BoardManagerImpl.
@@ -50,17 +64,19 @@ public final class BoardManagerImpl implements BoardManager {
         this.heartbeat = heartbeat;
         this.logger = logger;
         this.activeBoards = new ConcurrentHashMap<>();
+        this.boardMode = BoardMode.TEAM;
+        this.lineRendering = LineRendering.TEAMS;
     }
     
     @NotNull
     @Override
     public Board createBoard(@NotNull Player player) {
-        checkMainThread();
-        
         if (player == null) {
             throw new IllegalArgumentException("Player cannot be null");
         }
         
+        checkOwnerThread(player);
+        
         UUID playerId = player.getUniqueId();
         
         // Remove existing board if present
@@ -70,7 +86,10 @@ public final class BoardManagerImpl implements BoardManager {
         }
         
         // Create new board
-        TeamBoardImpl board = new TeamBoardImpl(player, heartbeat);
+        AbstractBoard board = switch (boardMode) {
+            case TEAM -> new TeamBoardImpl(player, heartbeat, lineRendering);
+            case VIRTUAL -> new VirtualBoardImpl(player, heartbeat, lineRendering);
+        };
         
         // Register with Heartbeat for task scheduling
         heartbeat.registerBoard(playerId, board);
@@ -96,12 +115,12 @@ public final class BoardManagerImpl implements BoardManager {
     
     @Override
     public void removeBoard(@NotNull Player player) {
-        checkMainThread();
-        
         if (player == null) {
             throw new IllegalArgumentException("Player cannot be null");
         }
         
+        checkOwnerThread(player);
+        
         UUID playerId = player.getUniqueId();
         Board board = activeBoards.remove(playerId);
         
@@ -113,9 +132,9 @@ public final class BoardManagerImpl implements BoardManager {
         // Unregister from Heartbeat (cancels all scheduled tasks)
         heartbeat.unregisterBoard(playerId);
         
-        // Destroy the board (cleans up Bukkit resources)
-        if (board instanceof TeamBoardImpl teamBoard) {
-            teamBoard.destroy();
+        // Destroy the board (cleans up Bukkit resources or removes it from the client)
+        if (board instanceof AbstractBoard abstractBoard) {
+            abstractBoard.destroy();
         }
         
         logger.fine("Removed board for player " + player.getName() + " (UUID: " + playerId + ")");
@@ -129,11 +148,12 @@ public final class BoardManagerImpl implements BoardManager {
      * all active boards and calls {@link #removeBoard(Player)} for each.
      * </p>
      * <p>
-     * This method must be called from the main thread.
+     * This method must be called from the main thread (on Folia: the global region
+     * thread, or any thread while the server is stopping).
      * </p>
      */
     public void removeAllBoards() {
-        checkMainThread();
+        checkServerThread();
         
         logger.info("Removing all active boards...");
         
@@ -151,9 +171,9 @@ public final class BoardManagerImpl implements BoardManager {
                 Board board = activeBoards.remove(playerId);
                 heartbeat.unregisterBoard(playerId);
                 
-                if (board instanceof TeamBoardImpl teamBoard) {
+                if (board instanceof AbstractBoard abstractBoard) {
                     try {
-                        teamBoard.destroy();
+                        abstractBoard.destroy();
                     } catch (Exception e) {
                         logger.warning("Error destroying board for offline player " + playerId + ": " + e.getMessage());
                     }
@@ -164,6 +184,61 @@ public final class BoardManagerImpl implements BoardManager {
         logger.info("Removed " + count + " active board(s)");
     }
     
+    /**
+     * Sets how boards created from now on reach the client. Existing boards keep their mode.
+     *
+     * @param boardMode the board mode, must not be null
+     * @throws IllegalStateException if virtual boards are not supported on this server
+     * @since 2.1.0
+     */
+    public void setBoardMode(@NotNull BoardMode boardMode) {
+        if (boardMode == null) {
+            throw new IllegalArgumentException("Board mode cannot be null");
+        }
+        if (boardMode == BoardMode.VIRTUAL && !PacketHelper.isVirtualBoardSupported()) {
+            throw new IllegalStateException("Virtual boards are not supported on this server");
+        }
+        
+        this.boardMode = boardMode;
+    }
+    
+    /**
+     * Gets how new boards reach the client.
+     *
+     * @return the board mode
+     * @since 2.1.0
+     */
+    @NotNull
+    public BoardMode getBoardMode() {
+        return boardMode;
+    }
+    
+    /**
+     * Sets where boards created from now on put the text of their lines. Existing boards
+     * keep theirs.
+     *
+     * @param lineRendering the line rendering, must not be null
+     * @since 2.1.0
+     */
+    public void setLineRendering(@NotNull LineRendering lineRendering) {
+        if (lineRendering == null) {
+            throw new IllegalArgumentException("Line rendering cannot be null");
+        }
+        
+        this.lineRendering = lineRendering;
+    }
+    
+    /**
+     * Gets where new boards put the text of their lines.
+     *
+     * @return the line rendering
+     * @since 2.1.0
+     */
+    @NotNull
+    public LineRendering getLineRendering() {
+        return lineRendering;
+    }
+    
     /**
      * Gets the number of currently active boards.
      * <p>
@@ -208,16 +283,35 @@ public final class BoardManagerImpl implements BoardManager {
     }
     
     /**
-     * Ensures that the current thread is the main server thread.
+     * Ensures that the current thread may modify the given player's board.
      * <p>
      * This is a critical safety check to prevent concurrent modification issues
-     * and comply with the Bukkit API's threading requirements.
+     * and comply with the Bukkit API's threading requirements. On Paper this is the
+     * main server thread; on Folia it is the region thread that owns the player.
      * </p>
      *
+     * @param player the board owner
+     * @throws IllegalStateException if called from a thread that does not own the player
+     */
+    private void checkOwnerThread(@NotNull Player player) {
+        if (!RegionSupport.isOwnedByCurrentThread(player)) {
+            throw new IllegalStateException(
+                (RegionSupport.isRegionThreaded()
+                    ? "ScoreFX API must be accessed from the region thread that owns the player. "
+                    : "ScoreFX API must be accessed from the main server thread. ") +
+                "Current thread: " + Thread.currentThread().getName()
+            );
+        }
+    }
+    
+    /**
+     * Ensures that the current thread may run server-wide operations.
+     *
      * @throws IllegalStateException if called from a non-main thread
+     * @see RegionSupport#isServerThread()
      */
-    private void checkMainThread() {
-        if (!Bukkit.isPrimaryThread()) {
+    private void checkServerThread() {
+        if (!RegionSupport.isServerThread()) {
             throw new IllegalStateException(
                 "ScoreFX API must be accessed from the main server thread. " +
                 "Current thread: " + Thread.currentThread().getName()
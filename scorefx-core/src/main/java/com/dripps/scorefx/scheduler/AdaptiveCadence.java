@@ -0,0 +1,115 @@
+package com.dripps.scorefx.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Maps the server's average tick duration (MSPT) to a refresh interval multiplier.
+ * <p>
+ * When the server falls behind, the {@link Heartbeat} stretches the intervals of animations
+ * and placeholder refreshes by the multiplier of the current {@link Stage}, so boards stop
+ * adding to the lag. Stages are entered when the average MSPT reaches their
+ * {@link Stage#enterMspt() enter threshold} and left only once it drops below their lower
+ * {@link Stage#exitMspt() exit threshold}; the gap between the two keeps the cadence from
+ * flapping when MSPT hovers around a threshold.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> Not thread-safe; owned by the Heartbeat's thread.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class AdaptiveCadence {
+
+    private final List<Stage> stages; // Sorted by enter threshold, lowest first
+    private final int checkIntervalTicks;
+    private int currentStage; // 0 = full cadence, n = stages.get(n - 1)
+    
+    /**
+     * Creates a new AdaptiveCadence.
+     *
+     * @param stages the degradation stages, must not be null or empty
+     * @param checkIntervalTicks how often the Heartbeat re-evaluates MSPT, must be positive
+     */
+    public AdaptiveCadence(@NotNull List<Stage> stages, int checkIntervalTicks) {
+        if (stages == null || stages.isEmpty()) {
+            throw new IllegalArgumentException("Stages cannot be null or empty");
+        }
+        if (checkIntervalTicks < 1) {
+            throw new IllegalArgumentException("Check interval must be at least 1 tick, got: " + checkIntervalTicks);
+        }
+        
+        List<Stage> sorted = new ArrayList<>(stages);
+        sorted.sort(Comparator.comparingDouble(Stage::enterMspt));
+        this.stages = List.copyOf(sorted);
+        this.checkIntervalTicks = checkIntervalTicks;
+        this.currentStage = 0;
+    }
+    
+    /**
+     * Moves between stages for a new average MSPT reading.
+     * <p>
+     * The cadence climbs as many stages as the reading reaches in one step, so a sudden lag
+     * spike is answered immediately, but recovers one stage per reading.
+     * </p>
+     *
+     * @param averageMspt the server's recent average tick duration in milliseconds
+     * @return the interval multiplier to apply, at least 1
+     */
+    public int update(double averageMspt) {
+        while (currentStage < stages.size() && averageMspt >= stages.get(currentStage).enterMspt()) {
+            currentStage++;
+        }
+        
+        if (currentStage > 0 && averageMspt < stages.get(currentStage - 1).exitMspt()) {
+            currentStage--;
+        }
+        
+        return getIntervalMultiplier();
+    }
+    
+    /** Returns the interval multiplier of the current stage (1 = full cadence). */
+    public int getIntervalMultiplier() {
+        return currentStage == 0 ? 1 : stages.get(currentStage - 1).intervalMultiplier();
+    }
+    
+    /** Returns the current stage number (0 = full cadence). */
+    public int getCurrentStage() {
+        return currentStage;
+    }
+    
+    /** Returns how often, in ticks, the Heartbeat re-evaluates MSPT. */
+    public int getCheckIntervalTicks() {
+        return checkIntervalTicks;
+    }
+    
+    /** Resets to full cadence. */
+    public void reset() {
+        currentStage = 0;
+    }
+    
+    /**
+     * A degradation stage.
+     *
+     * @param enterMspt the average MSPT at or above which the stage is entered
+     * @param exitMspt the average MSPT below which the stage is left, at most {@code enterMspt}
+     * @param intervalMultiplier the factor applied to refresh intervals in this stage, at least 1
+     */
+    public record Stage(double enterMspt, double exitMspt, int intervalMultiplier) {
+    
+        /** Compact constructor for validation. */
+        public Stage {
+            if (exitMspt > enterMspt) {
+                throw new IllegalArgumentException(
+                    "Exit MSPT (" + exitMspt + ") cannot be above enter MSPT (" + enterMspt + ")"
+                );
+            }
+            if (intervalMultiplier < 1) {
+                throw new IllegalArgumentException("Interval multiplier must be at least 1, got: " + intervalMultiplier);
+            }
+        }
+    }
+}
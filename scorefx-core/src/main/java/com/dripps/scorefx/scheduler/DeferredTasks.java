@@ -0,0 +1,83 @@
+package com.dripps.scorefx.scheduler;
+
+/**
+ * First-in, first-out queue of task references that were deferred by the
+ * {@link Heartbeat}'s tick budget.
+ * <p>
+ * References are kept in a growable ring buffer of {@code long}s, so deferring and
+ * resuming tasks allocates nothing once the buffer has grown to size.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> Not thread-safe; owned by the Heartbeat's thread.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class DeferredTasks {
+
+    private long[] tasks;
+    private int head; // Index of the oldest reference
+    private int size;
+    
+    DeferredTasks() {
+        this.tasks = new long[16];
+        this.head = 0;
+        this.size = 0;
+    }
+    
+    /**
+     * Appends a task reference.
+     *
+     * @param task the task reference
+     */
+    void addLast(long task) {
+        if (size == tasks.length) {
+            grow();
+        }
+        tasks[(head + size) & (tasks.length - 1)] = task;
+        size++;
+    }
+    
+    /**
+     * Removes and returns the oldest task reference.
+     *
+     * @return the oldest task reference
+     * @throws IllegalStateException if the queue is empty
+     */
+    long pollFirst() {
+        if (size == 0) {
+            throw new IllegalStateException("No deferred tasks");
+        }
+        
+        long task = tasks[head];
+        head = (head + 1) & (tasks.length - 1);
+        size--;
+        return task;
+    }
+    
+    /** Returns true if no task is deferred. */
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /** Returns the number of deferred task references. */
+    int size() {
+        return size;
+    }
+    
+    /** Removes all task references. */
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+    
+    /** Doubles the buffer, unwrapping the ring so the oldest reference is at index 0. */
+    private void grow() {
+        long[] grown = new long[tasks.length * 2];
+        int firstPart = tasks.length - head;
+        System.arraycopy(tasks, head, grown, 0, firstPart);
+        System.arraycopy(tasks, 0, grown, firstPart, head);
+        tasks = grown;
+        head = 0;
+    }
+}
@@ -1,9 +1,13 @@
 package com.dripps.scorefx.scheduler;
 
 import com.dripps.scorefx.animation.SharedAnimation;
-import com.dripps.scorefx.board.TeamBoardImpl;
+import com.dripps.scorefx.board.AbstractBoard;
+import com.dripps.scorefx.board.PacketBudget;
+import com.dripps.scorefx.hook.AsyncPlaceholderResolver;
 import com.dripps.scorefx.hook.PAPIHook;
 import com.dripps.scorefx.util.LegacySupport;
+import com.dripps.scorefx.util.RegionSupport;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -11,55 +15,155 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
 
 /**
  * Central scheduler for all scoreboard updates in ScoreFX.
  * Runs a single BukkitRunnable every tick and processes due tasks from a
- * PriorityQueue (earliest first). Start/stop on the main thread; internal
- * structures are concurrent for safety.
+ * {@link TaskQueue} (earliest first), by default a {@link TimingWheelTaskQueue};
+ * recurring tasks run from {@link IntervalBuckets}, and every task is stored in a
+ * {@link TaskTable}. At the end of a tick only boards with pending updates are
+ * flushed. On Folia each board is driven by its own {@link RegionBoardTicker}
+ * instead. Start/stop on the main thread; internal structures are concurrent
+ * for safety.
+ * <p>
+ * The tick budget, adaptive cadence, off-main placeholders, parallel render, packet
+ * budget and transport options are off by default and set from the {@code scheduler},
+ * {@code placeholders} and {@code render} sections of config.yml; see their setters.
+ * </p>
  */
 public final class Heartbeat {
-    
+
     private final Plugin plugin;
     private final Logger logger;
     private final PAPIHook papiHook;
-    private final PriorityQueue<UpdateTask> taskQueue;
-    private final Map<UUID, Set<UpdateTask>> boardTasks; // Track tasks by board for cancellation
-    private final Map<UUID, TeamBoardImpl> activeBoardsMap; // Reference to active boards
+    private final TaskQueue taskQueue;
+    private final LongConsumer dueTaskHandler; // Cached to avoid a lambda allocation per tick
+    private final TaskTable taskTable; // State of every task, indexed by (board index, row)
+    private final IntervalBuckets recurringTasks;
+    private final LongConsumer recurringTaskHandler;
+    private final DeferredTasks deferredTasks; // Best-effort tasks that ran out of budget
+    private final Consumer<AsyncPlaceholderResolver.Resolved> resolvedHandler;
+    private final Map<UUID, Integer> boardIndices; // Board ID -> dense board index
+    private final Map<UUID, AbstractBoard> activeBoardsMap; // Reference to active boards
+    private final boolean regionThreaded;
+    private final Map<UUID, RegionBoardTicker> regionTickers; // Folia only: per-board tickers
     
+    private AbstractBoard[] boards; // Dense board index -> board
     private BukkitTask heartbeatTask;
-    private long currentTick;
+    private ScheduledTask globalTickTask; // Folia only: advances the tick counter
+    private AbstractBoard dirtyHead; // Head of the intrusive list of boards to flush
+    private volatile long currentTick; // Volatile because region threads read it on Folia
+    private long lastGeneration; // Source of task generations, never reused (40 bits: ~35 years at 1,000 schedules/s)
     private boolean running;
+    private PhaseStrategy phaseStrategy;
+    
+    // Tick budget (v2.1.0) - 0 disables the budget
+    private long tickBudgetNanos;
+    private long tickStartNanos;
+    private int lastTickDeferredCount;
+    private int currentTickDeferredCount;
+    private long totalDeferredCount;
+    
+    // Adaptive cadence (v2.1.0) - null disables it
+    private AdaptiveCadence adaptiveCadence;
+    private int intervalMultiplier;
+    
+    // Off-main placeholder resolution (v2.1.0) - null resolves everything in the tick
+    private AsyncPlaceholderResolver placeholderResolver;
+    
+    // Parallel render (v2.1.0) - null renders every board on the main thread
+    private ForkJoinPool renderPool;
+    private int parallelRenderThreshold;
+    private AbstractBoard[] flushBatch; // Reused between ticks
+    
+    // Shared encoding (v2.1.0) - Shared animation frames are encoded once for all players
+    private volatile boolean sharedEncoding;
+    
+    // Batched flush (v2.1.0) - Boards write without flushing, one flush per player per tick
+    private volatile boolean batchedFlush;
+    private final LongAdder deferredFlushes; // Board flushes held back by unwritable channels
+    
+    // Event loop dispatch (v2.1.0) - Committed packets are sent from each player's event loop
+    private volatile boolean eventLoopDispatch;
+    
+    // Packet budget (v2.1.0) - null = boards send every update as soon as it is flushed
+    private volatile PacketBudget packetBudget;
+    private final LongAdder budgetDeferrals; // Updates held back by boards over their budget
+    
+    // Update diffing (v2.1.0) - Added to from every thread that commits boards
+    private final LongAdder skippedUpdates;
     
     /**
-     * Creates a new Heartbeat scheduler.
+     * Creates a new Heartbeat scheduler backed by a {@link TimingWheelTaskQueue}.
      *
      * @param plugin the plugin instance, must not be null
      * @param papiHook the PlaceholderAPI hook, must not be null
      */
     public Heartbeat(@NotNull Plugin plugin, @NotNull PAPIHook papiHook) {
+        this(plugin, papiHook, new TimingWheelTaskQueue());
+    }
+    
+    /**
+     * Creates a new Heartbeat scheduler with the given task queue backend.
+     *
+     * @param plugin the plugin instance, must not be null
+     * @param papiHook the PlaceholderAPI hook, must not be null
+     * @param taskQueue the queue that stores pending tasks, must not be null
+     * @since 2.1.0
+     */
+    public Heartbeat(@NotNull Plugin plugin, @NotNull PAPIHook papiHook, @NotNull TaskQueue taskQueue) {
         if (plugin == null) {
             throw new IllegalArgumentException("Plugin cannot be null");
         }
         if (papiHook == null) {
             throw new IllegalArgumentException("PAPIHook cannot be null");
         }
+        if (taskQueue == null) {
+            throw new IllegalArgumentException("TaskQueue cannot be null");
+        }
         
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.papiHook = papiHook;
-        this.taskQueue = new PriorityQueue<>();
-        this.boardTasks = new ConcurrentHashMap<>();
+        this.taskQueue = taskQueue;
+        this.dueTaskHandler = this::runDueTask;
+        this.taskTable = new TaskTable();
+        this.recurringTasks = new IntervalBuckets(taskTable);
+        this.recurringTaskHandler = this::runRecurringTask;
+        this.deferredTasks = new DeferredTasks();
+        this.resolvedHandler = this::applyResolved;
+        this.boardIndices = new ConcurrentHashMap<>();
+        this.boards = new AbstractBoard[16];
         this.activeBoardsMap = new ConcurrentHashMap<>();
+        this.regionThreaded = RegionSupport.isRegionThreaded();
+        this.regionTickers = new ConcurrentHashMap<>();
         this.currentTick = 0;
+        this.lastGeneration = 0;
         this.running = false;
+        this.tickBudgetNanos = 0;
+        this.phaseStrategy = PhaseStrategy.LEAST_LOADED;
+        this.adaptiveCadence = null;
+        this.intervalMultiplier = 1;
+        this.placeholderResolver = null;
+        this.renderPool = null;
+        this.parallelRenderThreshold = Integer.MAX_VALUE;
+        this.flushBatch = new AbstractBoard[16];
+        this.deferredFlushes = new LongAdder();
+        this.packetBudget = null;
+        this.budgetDeferrals = new LongAdder();
+        this.skippedUpdates = new LongAdder();
     }
     
-    /** Starts the Heartbeat scheduler. Main thread only. */
+    /** Starts the Heartbeat scheduler. Main thread only (on Folia: during plugin enable). */
     public void start() {
         if (running) {
             throw new IllegalStateException("Heartbeat is already running");
@@ -67,6 +171,20 @@ public final class Heartbeat {
         
         logger.info("Starting Heartbeat scheduler...");
         
+        if (regionThreaded) {
+            // Boards tick on their own region threads; only the shared counter is global
+            globalTickTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(
+                plugin,
+                task -> currentTick++,
+                1L,
+                1L
+            );
+            
+            running = true;
+            logger.info("Heartbeat scheduler started in region-threaded mode (Folia)");
+            return;
+        }
+        
         heartbeatTask = new BukkitRunnable() {
             @Override
             public void run() {
@@ -91,56 +209,329 @@ public final class Heartbeat {
             heartbeatTask.cancel();
             heartbeatTask = null;
         }
+        if (globalTickTask != null) {
+            globalTickTask.cancel();
+            globalTickTask = null;
+        }
+        for (RegionBoardTicker ticker : regionTickers.values()) {
+            ticker.stop();
+        }
+        regionTickers.clear();
+        
+        // Unlink all dirty boards so none keeps a reference into the old list
+        AbstractBoard dirtyBoard = dirtyHead;
+        dirtyHead = null;
+        while (dirtyBoard != null) {
+            dirtyBoard = dirtyBoard.unlinkDirty();
+        }
         
         // Clear all pending tasks
         taskQueue.clear();
-        boardTasks.clear();
+        recurringTasks.clear();
+        deferredTasks.clear();
+        taskTable.clearTasks(); // Registered boards keep their index
+        if (placeholderResolver != null) {
+            placeholderResolver.clearResults();
+        }
         
         running = false;
         currentTick = 0;
+        intervalMultiplier = 1;
+        if (adaptiveCadence != null) {
+            adaptiveCadence.reset();
+        }
         
         logger.info("Heartbeat scheduler stopped successfully");
     }
     
     /** Main per-tick execution: processes due tasks and flushes board updates. */
-    private void tick() {
+    void tick() {
         currentTick++;
+        tickStartNanos = System.nanoTime();
+        currentTickDeferredCount = 0;
         
-        // Process all tasks that are due for execution this tick
-        while (!taskQueue.isEmpty() && taskQueue.peek().executionTick() <= currentTick) {
-            UpdateTask task = taskQueue.poll();
-            
-            // Execute the task
-            executeTask(task);
-            
-            // If the task is recurring, reschedule it
-            if (task.isRecurring()) {
-                UpdateTask nextTask = task.reschedule(currentTick);
-                scheduleTask(nextTask);
+        // Re-evaluate the refresh cadence from the server's recent MSPT
+        if (adaptiveCadence != null && currentTick % adaptiveCadence.getCheckIntervalTicks() == 0) {
+            updateCadence();
+        }
+        
+        // Work deferred by the last tick's budget goes first, in deferral order
+        runDeferredTasks();
+        
+        // Fire the interval buckets due this tick first, so recurring tasks that
+        // move from the queue into a bucket below are not run twice in the same tick
+        recurringTasks.fire(currentTick, recurringTaskHandler);
+        
+        // Process all queued tasks that are due for execution this tick
+        taskQueue.pollDue(currentTick, dueTaskHandler);
+        
+        // Apply placeholder texts resolved off the main thread since the last tick
+        if (placeholderResolver != null) {
+            placeholderResolver.drain(resolvedHandler);
+        }
+        
+        lastTickDeferredCount = currentTickDeferredCount;
+        totalDeferredCount += currentTickDeferredCount;
+        
+        // v2.0.1: Flush all pending updates to boards (batching optimization)
+        // Only boards that queued an update this tick are visited
+        if (renderPool != null) {
+            flushInParallel();
+            return;
+        }
+        
+        int count = drainDirtyBoards();
+        for (int i = 0; i < count; i++) {
+            flushBatch[i].flushUpdates();
+        }
+        flushConnections(count);
+    }
+    
+    /**
+     * Moves the dirty boards into {@link #flushBatch}. With batched flushing, a board whose
+     * channel is not writable stays dirty for the next tick instead, keeping only its
+     * latest updates.
+     *
+     * @return the number of boards to flush this tick
+     */
+    private int drainDirtyBoards() {
+        int count = 0;
+        AbstractBoard board = dirtyHead;
+        dirtyHead = null;
+        while (board != null) {
+            AbstractBoard next = board.unlinkDirty();
+            if (batchedFlush && !board.isConnectionWritable()) {
+                markDirty(board); // Onto the list for the next tick
+                deferredFlushes.increment();
             } else {
-                // Remove from board task tracking
-                Set<UpdateTask> tasks = boardTasks.get(task.boardId());
-                if (tasks != null) {
-                    tasks.remove(task);
+                if (count == flushBatch.length) {
+                    flushBatch = Arrays.copyOf(flushBatch, count * 2);
                 }
+                flushBatch[count++] = board;
             }
+            board = next;
         }
+        return count;
+    }
+    
+    /**
+     * Ends the flush phase: with batched flushing, flushes every committed board's channel
+     * once, then clears the batch.
+     *
+     * @param count the number of boards in {@link #flushBatch}
+     */
+    private void flushConnections(int count) {
+        for (int i = 0; i < count; i++) {
+            if (batchedFlush) {
+                flushBatch[i].flushConnection();
+            }
+            flushBatch[i] = null;
+        }
+    }
+    
+    /**
+     * Flushes the dirty boards, rendering them on the render pool when there are enough
+     * of them to be worth the hand-off, and committing them on this thread.
+     */
+    private void flushInParallel() {
+        int count = drainDirtyBoards();
         
-        // v2.0.1: Flush all pending updates to boards (batching optimization)
-        for (TeamBoardImpl board : activeBoardsMap.values()) {
-            board.flushUpdates();
+        if (count >= parallelRenderThreshold) {
+            renderPool.invoke(new ParallelRender(flushBatch, 0, count, logger));
+        } else {
+            for (int i = 0; i < count; i++) {
+                flushBatch[i].render();
+            }
         }
+        
+        for (int i = 0; i < count; i++) {
+            flushBatch[i].commit();
+        }
+        flushConnections(count);
     }
     
-    /** Executes a single update task (Adventure-first; PAPI only for Strings). */
-    private void executeTask(@NotNull UpdateTask task) {
-        TeamBoardImpl board = activeBoardsMap.get(task.boardId());
+    /** Executes a due task and reschedules it if it is recurring. */
+    private void runDueTask(long task) {
+        // Drop tasks that were replaced or cancelled since they were queued
+        if (!taskTable.isCurrent(task)) {
+            return;
+        }
         
-        if (board == null) {
-            // Board no longer exists - task is orphaned
+        int handle = TaskTable.handle(task);
+        UpdateTask.TaskType type = taskTable.type(handle);
+        
+        // Out of budget: move the task to the next tick
+        if (isOverBudget(type)) {
+            taskQueue.offer(task, currentTick + 1);
+            currentTickDeferredCount++;
+            return;
+        }
+        
+        // Execute the task
+        AbstractBoard board = boards[TaskTable.boardIndex(handle)];
+        runTask(task, handle, board, type, TaskTable.row(handle));
+        
+        int interval = taskTable.interval(handle);
+        if (interval == 0) {
+            taskTable.release(task);
+        } else if (IntervalBuckets.accepts(interval)) {
+            // Hand the task over to its interval bucket; it next runs within one interval
+            long nextTick = firstBucketTick(handle, type, interval, currentTick + interval);
+            recurringTasks.add(task, interval, nextTick);
+        } else {
+            // Very long interval - reschedule through the queue (keeping its generation and slot)
+            boolean pinned = isPinned(board, TaskTable.row(handle));
+            taskQueue.offer(task, currentTick + (long) interval * (pinned ? 1 : intervalMultiplier));
+        }
+    }
+    
+    /** Executes a bucketed recurring task; staleness has already been checked by the bucket. */
+    private void runRecurringTask(long task) {
+        int handle = TaskTable.handle(task);
+        if (taskTable.isDeferred(handle)) {
+            // Still waiting from an earlier period - the pending run covers this one too
             return;
         }
         
+        AbstractBoard board = boards[TaskTable.boardIndex(handle)];
+        int row = TaskTable.row(handle);
+        if (intervalMultiplier > 1 && !isPinned(board, row)) {
+            // Server is behind: run only every n-th period, offset per slot so boards take turns
+            long period = currentTick / taskTable.interval(handle);
+            if (Math.floorMod(period + handle, intervalMultiplier) != 0) {
+                return;
+            }
+        }
+        
+        UpdateTask.TaskType type = taskTable.type(handle);
+        if (isOverBudget(type)) {
+            taskTable.setDeferred(handle, true);
+            deferredTasks.addLast(task);
+            currentTickDeferredCount++;
+            return;
+        }
+        
+        runTask(task, handle, board, type, row);
+    }
+    
+    /** Runs tasks deferred by earlier ticks until the deferred queue or the budget runs out. */
+    private void runDeferredTasks() {
+        while (!deferredTasks.isEmpty()) {
+            if (isBudgetSpent()) {
+                // Whatever is left keeps its place at the front of the queue
+                return;
+            }
+            
+            long task = deferredTasks.pollFirst();
+            if (!taskTable.isCurrent(task)) {
+                // Replaced or cancelled while waiting; a replacement starts undeferred
+                continue;
+            }
+            
+            int handle = TaskTable.handle(task);
+            taskTable.setDeferred(handle, false);
+            AbstractBoard board = boards[TaskTable.boardIndex(handle)];
+            runTask(task, handle, board, taskTable.type(handle), TaskTable.row(handle));
+        }
+    }
+    
+    /** Executes a task, handing allowlisted placeholder texts to the off-main resolver. */
+    private void runTask(
+        long task,
+        int handle,
+        @NotNull AbstractBoard board,
+        @NotNull UpdateTask.TaskType type,
+        int row
+    ) {
+        if (placeholderResolver == null || !taskTable.isAsyncPlaceholders(handle)) {
+            executeTask(board, type, row, taskTable.textObject(handle));
+            return;
+        }
+        
+        if (taskTable.isInFlight(handle)) {
+            // The previous resolution of this line has not come back yet - don't pile up
+            return;
+        }
+        
+        Player player = board.getPlayer();
+        if (player == null || !player.isOnline()) {
+            return;
+        }
+        
+        if (placeholderResolver.submit(task, player, (String) taskTable.textObject(handle))) {
+            taskTable.setInFlight(handle, true);
+        }
+    }
+    
+    /** Applies a text resolved off the main thread, unless its task was replaced meanwhile. */
+    private void applyResolved(@NotNull AsyncPlaceholderResolver.Resolved resolved) {
+        long task = resolved.key();
+        if (!taskTable.isCurrent(task)) {
+            return;
+        }
+        
+        int handle = TaskTable.handle(task);
+        taskTable.setInFlight(handle, false);
+        
+        Component component = resolved.component();
+        if (component == null) {
+            // Resolution failed; the next refresh tries again
+            return;
+        }
+        
+        AbstractBoard board = boards[TaskTable.boardIndex(handle)];
+        int row = TaskTable.row(handle);
+        if (row == -1) { // -1 is TITLE_ROW
+            board.updateTitleDirect(component);
+        } else {
+            board.updateLineDirect(row, component);
+        }
+    }
+    
+    /** Returns true if the row keeps its full cadence while the server is behind. */
+    private static boolean isPinned(@NotNull AbstractBoard board, int row) {
+        return row != -1 && board.isLinePinned(row); // -1 is TITLE_ROW
+    }
+    
+    /** Reads the server's average MSPT and applies the matching interval multiplier. */
+    private void updateCadence() {
+        double averageMspt = Bukkit.getAverageTickTime();
+        int multiplier = adaptiveCadence.update(averageMspt);
+        if (multiplier == intervalMultiplier) {
+            return;
+        }
+        
+        if (multiplier > intervalMultiplier) {
+            logger.info(String.format(
+                "Server is behind (%.1f MSPT) - slowing board refreshes to 1/%d (stage %d)",
+                averageMspt, multiplier, adaptiveCadence.getCurrentStage()
+            ));
+        } else {
+            logger.info(String.format(
+                "Server recovered (%.1f MSPT) - board refreshes at 1/%d (stage %d)",
+                averageMspt, multiplier, adaptiveCadence.getCurrentStage()
+            ));
+        }
+        intervalMultiplier = multiplier;
+    }
+    
+    /** Returns true if a task of this type must be deferred because the tick budget is spent. */
+    private boolean isOverBudget(@NotNull UpdateTask.TaskType type) {
+        return type.priority() == UpdateTask.Priority.BEST_EFFORT && isBudgetSpent();
+    }
+    
+    /** Returns true if a budget is configured and this tick has used it up. */
+    private boolean isBudgetSpent() {
+        return tickBudgetNanos > 0 && System.nanoTime() - tickStartNanos >= tickBudgetNanos;
+    }
+    
+    /** Executes a single update on a board (Adventure-first; PAPI only for Strings). */
+    void executeTask(
+        @NotNull AbstractBoard board,
+        @NotNull UpdateTask.TaskType type,
+        int row,
+        @NotNull Object textObject
+    ) {
         // Get the player for placeholder replacement
         Player player = board.getPlayer();
         if (player == null || !player.isOnline()) {
@@ -149,44 +540,47 @@ public final class Heartbeat {
         }
         
         try {
-            switch (task.type()) {
+            switch (type) {
                 case LINE_UPDATE -> {
                     // Process text object - only Strings support PlaceholderAPI
                     Component finalComponent;
-                    if (task.textObject() instanceof String textString) {
+                    if (textObject instanceof String textString) {
                         // Replace placeholders in the String
                         String processedText = papiHook.setPlaceholders(player, textString);
                         // Convert to Component (Adventure-First)
                         finalComponent = LegacySupport.toComponent(processedText);
                     } else {
                         // Non-String objects are not supported for LINE_UPDATE
-                        logger.warning("LINE_UPDATE task received non-String textObject for board " + task.boardId());
+                        logger.warning("LINE_UPDATE task received non-String textObject for board " + player.getUniqueId());
                         return;
                     }
                     
                     // Update the line with the Component
-                    board.updateLineDirect(task.row(), finalComponent);
+                    board.updateLineDirect(row, finalComponent);
                 }
                 case LINE_ANIMATION -> {
                     // Advance the animation to the next frame (returns Component)
-                    var animation = board.getAnimation(task.row());
-                    if (animation != null) {
+                    var animation = board.getAnimation(row);
+                    if (animation instanceof SharedAnimation sharedAnimation) {
+                        // The frame is rendered once for all boards sharing it
+                        board.updateLineDirect(row, sharedAnimation.nextPayload());
+                    } else if (animation != null) {
                         Component nextFrame = animation.nextFrame();
                         // Note: PlaceholderAPI is not supported for Component-based animations
-                        board.updateLineDirect(task.row(), nextFrame);
+                        board.updateLineDirect(row, nextFrame);
                     }
                 }
                 case TITLE_UPDATE -> {
                     // Process text object - only Strings support PlaceholderAPI
                     Component finalComponent;
-                    if (task.textObject() instanceof String textString) {
+                    if (textObject instanceof String textString) {
                         // Replace placeholders in the String
                         String processedText = papiHook.setPlaceholders(player, textString);
                         // Convert to Component (Adventure-First)
                         finalComponent = LegacySupport.toComponent(processedText);
                     } else {
                         // Non-String objects are not supported for TITLE_UPDATE
-                        logger.warning("TITLE_UPDATE task received non-String textObject for board " + task.boardId());
+                        logger.warning("TITLE_UPDATE task received non-String textObject for board " + player.getUniqueId());
                         return;
                     }
                     
@@ -196,7 +590,9 @@ public final class Heartbeat {
                 case TITLE_ANIMATION -> {
                     // Advance the title animation to the next frame (returns Component)
                     var animation = board.getAnimation(-1); // -1 is TITLE_ROW
-                    if (animation != null) {
+                    if (animation instanceof SharedAnimation sharedAnimation) {
+                        board.updateTitleDirect(sharedAnimation.nextPayload());
+                    } else if (animation != null) {
                         Component nextFrame = animation.nextFrame();
                         // Note: PlaceholderAPI is not supported for Component-based animations
                         board.updateTitleDirect(nextFrame);
@@ -204,43 +600,200 @@ public final class Heartbeat {
                 }
             }
         } catch (Exception e) {
-            logger.warning("Error executing task for board " + task.boardId() + ": " + e.getMessage());
+            logger.warning("Error executing task for board " + player.getUniqueId() + ": " + e.getMessage());
         }
     }
     
-    /** Schedules a new task for execution (thread-safe). */
+    /**
+     * Schedules a new task for execution, replacing any task that currently owns the
+     * same (board, row) slot. Main thread only.
+     */
     public void scheduleTask(@NotNull UpdateTask task) {
         if (task == null) {
             throw new IllegalArgumentException("Task cannot be null");
         }
+        if (!TaskTable.isValidRow(task.row())) {
+            throw new IllegalArgumentException("Task row must be -1 (title) or between 1 and 15, got: " + task.row());
+        }
+        
+        // On Folia the board's own ticker owns its tasks
+        if (regionThreaded) {
+            RegionBoardTicker ticker = regionTickers.get(task.boardId());
+            if (ticker != null) {
+                ticker.schedule(task, task.executionTick() - currentTick);
+            }
+            return;
+        }
+        
+        Integer boardIndex = boardIndices.get(task.boardId());
+        if (boardIndex == null) {
+            // Board is not registered - nothing could run the task
+            return;
+        }
+        
+        // Stamp the task with a fresh generation; this supersedes the slot's previous task
+        int handle = TaskTable.handle(boardIndex, task.row());
+        long stampedTask = taskTable.assign(
+            handle,
+            ++lastGeneration,
+            task.type(),
+            task.intervalTicks(),
+            task.textObject(),
+            isAsyncPlaceholders(task)
+        );
+        
+        // Recurring tasks starting within one interval go straight into their bucket
+        long delay = task.executionTick() - currentTick;
+        if (task.isRecurring() && IntervalBuckets.accepts(task.intervalTicks())
+                && delay >= 1 && delay <= task.intervalTicks()) {
+            long firstTick = firstBucketTick(handle, task.type(), task.intervalTicks(), task.executionTick());
+            recurringTasks.add(stampedTask, task.intervalTicks(), firstTick);
+            return;
+        }
+        
+        taskQueue.offer(stampedTask, task.executionTick());
+    }
+    
+    /**
+     * Checks whether a task's text is resolved off the main thread. Only recurring
+     * placeholder refreshes qualify: a one-time task frees its slot right after it runs,
+     * which would discard the result.
+     */
+    private boolean isAsyncPlaceholders(@NotNull UpdateTask task) {
+        if (placeholderResolver == null || !task.isRecurring()) {
+            return false;
+        }
+        if (task.type() != UpdateTask.TaskType.LINE_UPDATE && task.type() != UpdateTask.TaskType.TITLE_UPDATE) {
+            return false;
+        }
+        
+        return task.textObject() instanceof String text && placeholderResolver.isAsyncSafe(text);
+    }
+    
+    /**
+     * Picks the first run of a recurring task that enters a bucket, spreading placeholder
+     * refreshes over the phases of their interval.
+     *
+     * @param handle the task's slot handle
+     * @param type the task type
+     * @param interval the task interval
+     * @param requestedTick the first run requested by the caller, within one interval from now
+     * @return a tick in {@code (currentTick, currentTick + interval]}
+     */
+    private long firstBucketTick(int handle, @NotNull UpdateTask.TaskType type, int interval, long requestedTick) {
+        if (phaseStrategy == PhaseStrategy.NONE || type.priority() != UpdateTask.Priority.BEST_EFFORT) {
+            // Animations keep their exact timing so rows animated together stay in step
+            return requestedTick;
+        }
+        
+        int phase = switch (phaseStrategy) {
+            case HASH -> Math.floorMod(spreadHash(handle), interval);
+            case LEAST_LOADED -> recurringTasks.leastLoadedPhase(interval);
+            case NONE -> (int) (requestedTick % interval);
+        };
+        
+        // First tick after the current one whose phase matches
+        long nextTick = currentTick + 1;
+        return nextTick + Math.floorMod(phase - nextTick, (long) interval);
+    }
+    
+    /** Mixes a slot handle into a well-distributed hash. */
+    private static int spreadHash(int handle) {
+        int hash = handle;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+    
+    /**
+     * Cancels the task that owns a (board, row) slot, if any. O(1); the task is
+     * dropped when it comes due. Main thread only (on Folia: the board owner's region thread).
+     *
+     * @param boardId the board owner's UUID
+     * @param row the row number (1-15), or -1 for the title
+     * @since 2.1.0
+     */
+    public void cancelTask(@NotNull UUID boardId, int row) {
+        if (boardId == null) {
+            throw new IllegalArgumentException("Board ID cannot be null");
+        }
+        
+        if (!TaskTable.isValidRow(row)) {
+            return;
+        }
         
-        taskQueue.offer(task);
+        if (regionThreaded) {
+            RegionBoardTicker ticker = regionTickers.get(boardId);
+            if (ticker != null) {
+                ticker.cancel(row);
+            }
+            return;
+        }
         
-        // Track this task for the board
-        boardTasks.computeIfAbsent(task.boardId(), k -> ConcurrentHashMap.newKeySet())
-                  .add(task);
+        Integer boardIndex = boardIndices.get(boardId);
+        if (boardIndex != null) {
+            taskTable.clear(TaskTable.handle(boardIndex, row));
+        }
     }
     
-    /** Cancels all tasks associated with a specific board (thread-safe). */
+    /** Cancels all tasks associated with a specific board in O(1) (thread-safe). */
     public void cancelTasksForBoard(@NotNull UUID boardId) {
         if (boardId == null) {
             throw new IllegalArgumentException("Board ID cannot be null");
         }
         
-        Set<UpdateTask> tasks = boardTasks.remove(boardId);
+        // Freeing the board's slots makes every queued and bucketed task of this board stale
+        Integer boardIndex = boardIndices.remove(boardId);
+        if (boardIndex != null) {
+            taskTable.freeBoard(boardIndex);
+            boards[boardIndex] = null;
+        }
         
-        if (tasks != null) {
-            // Remove all tasks for this board from the main queue
-            taskQueue.removeAll(tasks);
-            tasks.clear();
+        RegionBoardTicker ticker = regionTickers.remove(boardId);
+        if (ticker != null) {
+            ticker.stop();
         }
         
         // Remove board from active boards map
         activeBoardsMap.remove(boardId);
     }
     
+    /**
+     * Adds a board to the list of boards flushed at the end of the tick. Called by the
+     * board when it queues its first update since the last flush.
+     * <p>
+     * On Folia the board's own ticker flushes it, so only the board's dirty flag is set.
+     * </p>
+     *
+     * @param board the board to flush, must not be dirty already
+     * @since 2.1.0
+     */
+    public void markDirty(@NotNull AbstractBoard board) {
+        if (regionThreaded) {
+            board.linkDirty(null);
+            return;
+        }
+        
+        board.linkDirty(dirtyHead);
+        dirtyHead = board;
+    }
+    
+    /**
+     * Records line and title updates that a board dropped because the client already
+     * shows them. Called by boards from whichever thread commits them.
+     *
+     * @param count the number of updates that sent no packets
+     * @since 2.1.0
+     */
+    public void recordSkippedUpdates(int count) {
+        skippedUpdates.add(count);
+    }
+    
     /** Registers a board so scheduled tasks can find and update it. */
-    public void registerBoard(@NotNull UUID boardId, @NotNull TeamBoardImpl board) {
+    public void registerBoard(@NotNull UUID boardId, @NotNull AbstractBoard board) {
         if (boardId == null) {
             throw new IllegalArgumentException("Board ID cannot be null");
         }
@@ -249,6 +802,27 @@ public final class Heartbeat {
         }
         
         activeBoardsMap.put(boardId, board);
+        
+        if (!regionThreaded) {
+            // Give the board a dense index into the task table (kept on re-registration)
+            Integer boardIndex = boardIndices.get(boardId);
+            if (boardIndex == null) {
+                boardIndex = taskTable.allocateBoard();
+                boardIndices.put(boardId, boardIndex);
+            }
+            if (boardIndex >= boards.length) {
+                boards = Arrays.copyOf(boards, Math.max(boards.length * 2, boardIndex + 1));
+            }
+            boards[boardIndex] = board;
+        } else {
+            // Drive the board from its owner's entity scheduler
+            RegionBoardTicker ticker = new RegionBoardTicker(this, board);
+            RegionBoardTicker previous = regionTickers.put(boardId, ticker);
+            if (previous != null) {
+                previous.stop();
+            }
+            ticker.start(plugin);
+        }
     }
     
     /** Unregisters a board (equivalent to cancelTasksForBoard). */
@@ -261,16 +835,277 @@ public final class Heartbeat {
         return currentTick;
     }
     
+    /** Returns true if boards are driven per region (Folia) rather than by the global tick. */
+    public boolean isRegionThreaded() {
+        return regionThreaded;
+    }
+    
     /** Returns true if the Heartbeat is currently running. */
     public boolean isRunning() {
         return running;
     }
     
-    /** Returns the number of pending tasks. */
+    /** Returns the number of queued tasks, including cancelled tasks that have not come due yet. */
     public int getQueueSize() {
         return taskQueue.size();
     }
     
+    /** Returns the number of bucketed recurring tasks, including cancelled ones not yet dropped. */
+    public int getRecurringTaskCount() {
+        return recurringTasks.size();
+    }
+    
+    /**
+     * Sets the time budget for best-effort tasks per tick.
+     * <p>
+     * Once a tick has spent the budget, further {@link UpdateTask.Priority#BEST_EFFORT
+     * best-effort} tasks (placeholder refreshes) are deferred to the next tick, where they
+     * run first in the order they were deferred. Animation frames are
+     * {@link UpdateTask.Priority#LATENCY_SENSITIVE latency-sensitive} and always run.
+     * </p>
+     *
+     * @param tickBudgetNanos the budget in nanoseconds, or 0 to run every due task each tick
+     * @since 2.1.0
+     */
+    public void setTickBudgetNanos(long tickBudgetNanos) {
+        if (tickBudgetNanos < 0) {
+            throw new IllegalArgumentException("Tick budget cannot be negative");
+        }
+        
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+    
+    /**
+     * Sets how recurring placeholder refreshes are spread over the phases of their interval.
+     * Applies to tasks scheduled afterwards.
+     *
+     * @param phaseStrategy the strategy, must not be null
+     * @since 2.1.0
+     */
+    public void setPhaseStrategy(@NotNull PhaseStrategy phaseStrategy) {
+        if (phaseStrategy == null) {
+            throw new IllegalArgumentException("Phase strategy cannot be null");
+        }
+        
+        this.phaseStrategy = phaseStrategy;
+    }
+    
+    /**
+     * Enables or disables MSPT-adaptive refresh intervals. While the server is behind,
+     * recurring tasks run only every n-th interval; rows pinned with
+     * {@link com.dripps.scorefx.api.Board#setLinePinned} keep their full cadence. Not
+     * supported on Folia, where boards are ticked per region.
+     *
+     * @param adaptiveCadence the stages to apply, or null to always refresh at full cadence
+     * @since 2.1.0
+     */
+    public void setAdaptiveCadence(@Nullable AdaptiveCadence adaptiveCadence) {
+        if (adaptiveCadence != null && regionThreaded) {
+            throw new IllegalStateException("Adaptive cadence is not supported on region-threaded servers");
+        }
+        
+        this.adaptiveCadence = adaptiveCadence;
+        this.intervalMultiplier = 1;
+    }
+    
+    /**
+     * Sets the resolver for placeholders of allowlisted expansions. Recurring refreshes whose
+     * placeholders all belong to them are resolved on virtual threads and applied at the end
+     * of a later tick; while a line's resolution is in flight, its further refreshes are
+     * skipped. Applies to tasks scheduled afterwards; set it before the Heartbeat starts.
+     * Ignored on Folia, where boards are ticked per region.
+     *
+     * @param placeholderResolver the resolver, or null to resolve every placeholder in the tick
+     * @since 2.1.0
+     */
+    public void setPlaceholderResolver(@Nullable AsyncPlaceholderResolver placeholderResolver) {
+        this.placeholderResolver = placeholderResolver;
+    }
+    
+    /**
+     * Enables or disables the parallel render phase: in ticks that flush enough boards, they
+     * are rendered on the pool while the main thread waits, then committed on the main
+     * thread. The pool is owned by the caller, which must shut it down after the Heartbeat
+     * has stopped.
+     *
+     * @param renderPool the pool that renders boards, or null to render on the main thread
+     * @param threshold the minimum number of dirty boards in a tick to render in parallel, at least 1
+     * @since 2.1.0
+     */
+    public void setParallelRender(@Nullable ForkJoinPool renderPool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Parallel render threshold must be at least 1, got: " + threshold);
+        }
+        
+        this.renderPool = renderPool;
+        this.parallelRenderThreshold = threshold;
+    }
+    
+    /**
+     * Enables or disables shared encoding: the packets of shared animation frames are
+     * encoded once and the same bytes are written to every player.
+     *
+     * @param sharedEncoding true to share encoded frames
+     * @since 2.1.0
+     */
+    public void setSharedEncoding(boolean sharedEncoding) {
+        this.sharedEncoding = sharedEncoding;
+    }
+    
+    /**
+     * Checks whether shared animation frames are encoded once for all players.
+     *
+     * @return true if shared encoding is enabled
+     * @since 2.1.0
+     */
+    public boolean isSharedEncoding() {
+        return sharedEncoding;
+    }
+    
+    /**
+     * Enables or disables batched flushing: boards write their packets without flushing,
+     * and each player's channel is flushed once at the end of the flush phase. Boards of
+     * players whose channel is not writable are held back until it is.
+     *
+     * @param batchedFlush true to flush once per player per tick
+     * @since 2.1.0
+     */
+    public void setBatchedFlush(boolean batchedFlush) {
+        this.batchedFlush = batchedFlush;
+    }
+    
+    /**
+     * Checks whether boards write without flushing and are flushed once per tick.
+     *
+     * @return true if batched flushing is enabled
+     * @since 2.1.0
+     */
+    public boolean isBatchedFlush() {
+        return batchedFlush;
+    }
+    
+    /**
+     * Enables or disables event loop dispatch: the packets of each board commit are handed
+     * to the player's Netty event loop, which bundles and writes them off the tick.
+     *
+     * @param eventLoopDispatch true to send committed packets from the event loop
+     * @since 2.1.0
+     */
+    public void setEventLoopDispatch(boolean eventLoopDispatch) {
+        this.eventLoopDispatch = eventLoopDispatch;
+    }
+    
+    /**
+     * Checks whether committed packets are sent from each player's event loop.
+     *
+     * @return true if event loop dispatch is enabled
+     * @since 2.1.0
+     */
+    public boolean isEventLoopDispatch() {
+        return eventLoopDispatch;
+    }
+    
+    /**
+     * Sets the packet budget every board is flushed under.
+     *
+     * @param packetBudget the per-board packet and byte limits, or null to send every update
+     * @since 2.1.0
+     */
+    public void setPacketBudget(@Nullable PacketBudget packetBudget) {
+        this.packetBudget = packetBudget;
+    }
+    
+    /**
+     * Gets the packet budget every board is flushed under.
+     *
+     * @return the budget, or null if boards are not limited
+     * @since 2.1.0
+     */
+    @Nullable
+    public PacketBudget getPacketBudget() {
+        return packetBudget;
+    }
+    
+    /**
+     * Records line and title updates that a board held back because it was over its packet
+     * budget. Called by boards from whichever thread commits them.
+     *
+     * @param count the number of updates left pending
+     * @since 2.1.0
+     */
+    public void recordBudgetDeferrals(int count) {
+        budgetDeferrals.add(count);
+    }
+    
+    /** Records a board flush held back because the player's channel was not writable. */
+    void recordDeferredFlush() {
+        deferredFlushes.increment();
+    }
+    
+    /** Returns the render pool, or null if boards are rendered on the main thread. */
+    @Nullable
+    public ForkJoinPool getRenderPool() {
+        return renderPool;
+    }
+    
+    /** Returns the off-main placeholder resolver, or null if it is disabled. */
+    @Nullable
+    public AsyncPlaceholderResolver getPlaceholderResolver() {
+        return placeholderResolver;
+    }
+    
+    /** Returns the adaptive cadence, or null if it is disabled. */
+    @Nullable
+    public AdaptiveCadence getAdaptiveCadence() {
+        return adaptiveCadence;
+    }
+    
+    /** Returns the factor currently applied to recurring task intervals (1 = full cadence). */
+    public int getIntervalMultiplier() {
+        return intervalMultiplier;
+    }
+    
+    /** Returns the strategy used to spread recurring placeholder refreshes. */
+    @NotNull
+    public PhaseStrategy getPhaseStrategy() {
+        return phaseStrategy;
+    }
+    
+    /** Returns the per-tick budget for best-effort tasks in nanoseconds (0 = unlimited). */
+    public long getTickBudgetNanos() {
+        return tickBudgetNanos;
+    }
+    
+    /** Returns how many tasks the last completed tick deferred because its budget was spent. */
+    public int getLastTickDeferredCount() {
+        return lastTickDeferredCount;
+    }
+    
+    /** Returns how many task runs have been deferred since the Heartbeat was created. */
+    public long getTotalDeferredCount() {
+        return totalDeferredCount;
+    }
+    
+    /** Returns the number of bucketed tasks currently waiting for budget. */
+    public int getDeferredBacklog() {
+        return deferredTasks.size();
+    }
+    
+    /** Returns how many board flushes were held back because the player's channel was not writable. */
+    public long getDeferredFlushCount() {
+        return deferredFlushes.sum();
+    }
+    
+    /** Returns how many times a line or title update was held back by the packet budget. */
+    public long getBudgetDeferralCount() {
+        return budgetDeferrals.sum();
+    }
+    
+    /** Returns how many line and title updates were dropped because nothing had changed. */
+    public long getSkippedUpdateCount() {
+        return skippedUpdates.sum();
+    }
+    
     /** Returns the number of active boards. */
     public int getActiveBoardCount() {
         return activeBoardsMap.size();
@@ -0,0 +1,215 @@
+package com.dripps.scorefx.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Groups recurring tasks by interval and phase so that tasks sharing a cadence run together.
+ * <p>
+ * For every distinct interval there is one bucket per phase ({@code tick % interval}). On each
+ * tick only the bucket whose phase matches the tick is fired, so the per-tick cost is one
+ * array lookup per distinct interval plus a tight loop over the tasks that are actually due.
+ * Tasks stay in their bucket between runs - nothing is rescheduled or allocated. Buckets
+ * hold the {@code long} task references of a {@link TaskTable}.
+ * </p>
+ * <p>
+ * Tasks that lost their slot (replaced or cancelled) are removed lazily the next time their
+ * bucket fires. Intervals above {@value #MAX_INTERVAL} ticks are rare and would need large
+ * bucket arrays; the {@link Heartbeat} keeps those in its {@link TaskQueue} instead.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> Not thread-safe; owned by the Heartbeat's thread.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class IntervalBuckets {
+
+    /** Largest interval (one minute at 20 TPS) that is handled with buckets. */
+    static final int MAX_INTERVAL = 1200;
+    
+    private final TaskTable table; // Decides which references are stale
+    private Group[] groups; // One group per distinct interval, in order of first use
+    private int size;
+    
+    /**
+     * Creates empty buckets for the tasks of a table.
+     *
+     * @param table the table the bucketed references point into
+     */
+    IntervalBuckets(@NotNull TaskTable table) {
+        this.table = table;
+        this.groups = new Group[0];
+        this.size = 0;
+    }
+    
+    /**
+     * Checks whether tasks with the given interval can be bucketed.
+     *
+     * @param intervalTicks the task interval
+     * @return true if the interval is between 1 and {@link #MAX_INTERVAL}
+     */
+    static boolean accepts(int intervalTicks) {
+        return intervalTicks >= 1 && intervalTicks <= MAX_INTERVAL;
+    }
+    
+    /**
+     * Adds a task whose first run is at {@code firstTick}; it then runs every
+     * {@code intervalTicks} ticks after that.
+     *
+     * @param task the task reference to add
+     * @param intervalTicks the task's interval, must be {@linkplain #accepts accepted}
+     * @param firstTick the tick of the first run, at most one interval from now
+     */
+    void add(long task, int intervalTicks, long firstTick) {
+        Group group = group(intervalTicks);
+        group.add(task, (int) (firstTick % group.interval));
+        size++;
+    }
+    
+    /**
+     * Runs every current task whose bucket is due on the given tick and drops stale ones.
+     *
+     * @param tick the current tick
+     * @param runner executes a single task
+     */
+    void fire(long tick, @NotNull LongConsumer runner) {
+        for (Group group : groups) {
+            if (group.size > 0) {
+                size -= group.fire(tick, runner, table);
+            }
+        }
+    }
+    
+    /**
+     * Returns the phase holding the fewest tasks (stale ones included) for an interval.
+     *
+     * @param intervalTicks the interval, must be {@linkplain #accepts accepted}
+     * @return the least-loaded phase, between 0 and {@code intervalTicks - 1}
+     */
+    int leastLoadedPhase(int intervalTicks) {
+        return group(intervalTicks).leastLoadedPhase();
+    }
+    
+    /** Removes all tasks. */
+    void clear() {
+        groups = new Group[0];
+        size = 0;
+    }
+    
+    /** Returns the number of bucketed tasks, including stale ones not yet dropped. */
+    int size() {
+        return size;
+    }
+    
+    @NotNull
+    private Group group(int intervalTicks) {
+        for (Group group : groups) {
+            if (group.interval == intervalTicks) {
+                return group;
+            }
+        }
+        
+        Group group = new Group(intervalTicks);
+        groups = Arrays.copyOf(groups, groups.length + 1);
+        groups[groups.length - 1] = group;
+        return group;
+    }
+    
+    /** All buckets of one interval, indexed by phase. */
+    private static final class Group {
+    
+        private final int interval;
+        private final Bucket[] buckets; // Created lazily per phase
+        private int size;
+        
+        private Group(int interval) {
+            this.interval = interval;
+            this.buckets = new Bucket[interval];
+        }
+        
+        private void add(long task, int phase) {
+            Bucket bucket = buckets[phase];
+            if (bucket == null) {
+                bucket = new Bucket();
+                buckets[phase] = bucket;
+            }
+            bucket.add(task);
+            size++;
+        }
+        
+        private int leastLoadedPhase() {
+            int bestPhase = 0;
+            int bestSize = Integer.MAX_VALUE;
+            
+            for (int phase = 0; phase < interval; phase++) {
+                Bucket bucket = buckets[phase];
+                int bucketSize = bucket == null ? 0 : bucket.size;
+                if (bucketSize < bestSize) {
+                    bestPhase = phase;
+                    bestSize = bucketSize;
+                    if (bucketSize == 0) {
+                        break;
+                    }
+                }
+            }
+            
+            return bestPhase;
+        }
+        
+        /** Fires the bucket for the tick's phase and returns how many stale tasks were dropped. */
+        private int fire(long tick, @NotNull LongConsumer runner, @NotNull TaskTable table) {
+            Bucket bucket = buckets[(int) (tick % interval)];
+            if (bucket == null || bucket.size == 0) {
+                return 0;
+            }
+            
+            int removed = bucket.fire(runner, table);
+            size -= removed;
+            return removed;
+        }
+    }
+    
+    /** Compact array of the tasks sharing one (interval, phase). */
+    private static final class Bucket {
+    
+        private long[] tasks = new long[8];
+        private int size;
+        
+        private void add(long task) {
+            if (size == tasks.length) {
+                tasks = Arrays.copyOf(tasks, size * 2);
+            }
+            tasks[size++] = task;
+        }
+        
+        /** Runs all current tasks and swap-removes stale ones; returns the number removed. */
+        private int fire(@NotNull LongConsumer runner, @NotNull TaskTable table) {
+            // Tasks appended while firing belong to the next period, so only visit the first 'end'
+            int end = size;
+            int removed = 0;
+            int i = 0;
+            
+            while (i < end) {
+                long task = tasks[i];
+                if (table.isCurrent(task)) {
+                    runner.accept(task);
+                    i++;
+                    continue;
+                }
+                
+                // Fill the hole with the last visited task, then the gap with the last appended one
+                int last = end - 1;
+                tasks[i] = tasks[last];
+                tasks[last] = tasks[size - 1];
+                size--;
+                end--;
+                removed++;
+            }
+            
+            return removed;
+        }
+    }
+}
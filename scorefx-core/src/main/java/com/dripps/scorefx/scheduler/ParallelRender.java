@@ -0,0 +1,66 @@
+package com.dripps.scorefx.scheduler;
+
+import com.dripps.scorefx.board.AbstractBoard;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+
+/**
+ * Fork/join action that runs the {@linkplain AbstractBoard#render() render phase} of a
+ * range of boards in parallel.
+ * <p>
+ * The range is split in halves until it holds at most {@value #BATCH_SIZE} boards, which
+ * are then rendered in sequence. Boards are independent of each other, so no coordination
+ * is needed beyond the join; the Heartbeat waits for the whole action before it commits
+ * the boards on its own thread.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class ParallelRender extends RecursiveAction {
+
+    /** Boards rendered in sequence by one fork/join task. */
+    private static final int BATCH_SIZE = 8;
+    
+    private final AbstractBoard[] boards;
+    private final int from;
+    private final int to;
+    private final Logger logger;
+    
+    /**
+     * Creates a new ParallelRender.
+     *
+     * @param boards the boards to render
+     * @param from the first index to render (inclusive)
+     * @param to the last index to render (exclusive)
+     * @param logger the logger for render errors
+     */
+    ParallelRender(@NotNull AbstractBoard[] boards, int from, int to, @NotNull Logger logger) {
+        this.boards = boards;
+        this.from = from;
+        this.to = to;
+        this.logger = logger;
+    }
+    
+    @Override
+    protected void compute() {
+        if (to - from <= BATCH_SIZE) {
+            for (int i = from; i < to; i++) {
+                try {
+                    boards[i].render();
+                } catch (RuntimeException e) {
+                    // One broken board must not cost the others their updates
+                    logger.warning("Error rendering board: " + e.getMessage());
+                }
+            }
+            return;
+        }
+        
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new ParallelRender(boards, from, middle, logger),
+            new ParallelRender(boards, middle, to, logger)
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.dripps.scorefx.scheduler;
+
+/**
+ * How the {@link Heartbeat} picks the phase ({@code tick % interval}) of a recurring
+ * placeholder refresh.
+ * <p>
+ * Without spreading, every refresh scheduled in the same tick with the same interval
+ * runs in the same tick forever after - a mass join or a reload then produces a spike
+ * once per interval. Spreading moves a task's first run to the chosen phase (at most one
+ * interval later); after that it keeps its fixed cadence. Animations are never spread so
+ * animated rows and titles stay in step with each other.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public enum PhaseStrategy {
+
+    /** Keep the phase implied by the requested execution tick. */
+    NONE,
+    
+    /** Derive the phase from a hash of the board and row; stateless and evenly distributed. */
+    HASH,
+    
+    /** Put the task into the phase that currently holds the fewest tasks of its interval. */
+    LEAST_LOADED
+}
@@ -0,0 +1,98 @@
+package com.dripps.scorefx.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link TaskQueue} backed by a binary heap ordered by execution tick.
+ * <p>
+ * Insertion and removal cost O(log n). This was the Heartbeat's only backend before
+ * 2.1.0 and remains available as a fallback to {@link TimingWheelTaskQueue}. The heap
+ * is kept in two parallel primitive arrays (execution ticks and task references).
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class PriorityTaskQueue implements TaskQueue {
+
+    private long[] ticks;
+    private long[] tasks;
+    private int size;
+    
+    /**
+     * Creates a new, empty PriorityTaskQueue.
+     */
+    public PriorityTaskQueue() {
+        this.ticks = new long[64];
+        this.tasks = new long[64];
+        this.size = 0;
+    }
+    
+    @Override
+    public void offer(long task, long executionTick) {
+        if (size == ticks.length) {
+            ticks = Arrays.copyOf(ticks, size * 2);
+            tasks = Arrays.copyOf(tasks, size * 2);
+        }
+        
+        // Sift up
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (ticks[parent] <= executionTick) {
+                break;
+            }
+            ticks[index] = ticks[parent];
+            tasks[index] = tasks[parent];
+            index = parent;
+        }
+        ticks[index] = executionTick;
+        tasks[index] = task;
+    }
+    
+    @Override
+    public void pollDue(long currentTick, @NotNull LongConsumer consumer) {
+        while (size > 0 && ticks[0] <= currentTick) {
+            long task = tasks[0];
+            removeFirst();
+            consumer.accept(task);
+        }
+    }
+    
+    @Override
+    public void clear() {
+        size = 0;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    /** Removes the root of the heap and restores the heap order. */
+    private void removeFirst() {
+        int last = --size;
+        long tick = ticks[last];
+        long task = tasks[last];
+        
+        // Sift the last element down from the root
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && ticks[child + 1] < ticks[child]) {
+                child++;
+            }
+            if (tick <= ticks[child]) {
+                break;
+            }
+            ticks[index] = ticks[child];
+            tasks[index] = tasks[child];
+            index = child;
+        }
+        ticks[index] = tick;
+        tasks[index] = task;
+    }
+}
@@ -0,0 +1,140 @@
+package com.dripps.scorefx.scheduler;
+
+import com.dripps.scorefx.board.AbstractBoard;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Drives a single board from its owner's entity scheduler on region-threaded servers (Folia).
+ * <p>
+ * On Folia the {@link Heartbeat} does not tick boards from one global task. Instead every
+ * board gets a ticker that runs each tick on the thread of the region that owns the player,
+ * executes the board's due tasks and flushes the board. Board work therefore scales across
+ * region threads, and all of a ticker's state is only ever touched by that one thread.
+ * </p>
+ * <p>
+ * A board has at most {@link TaskTable#SLOT_COUNT} tasks - one per row and one for the
+ * title - so they are kept in small per-slot arrays and scanned directly each tick.
+ * Scheduling a task for a row overwrites the previous one.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class RegionBoardTicker {
+
+    private final Heartbeat heartbeat;
+    private final AbstractBoard board;
+    
+    // Per-slot task state, indexed by TaskTable.index(row); a null type marks a free slot
+    private final UpdateTask.TaskType[] types;
+    private final Object[] textObjects;
+    private final int[] intervals;
+    private final long[] nextRuns;
+    
+    private long localTick;
+    private ScheduledTask scheduledTask;
+    
+    /**
+     * Creates a new ticker for a board.
+     *
+     * @param heartbeat the Heartbeat that executes the tasks
+     * @param board the board to drive
+     */
+    RegionBoardTicker(@NotNull Heartbeat heartbeat, @NotNull AbstractBoard board) {
+        this.heartbeat = heartbeat;
+        this.board = board;
+        this.types = new UpdateTask.TaskType[TaskTable.SLOT_COUNT];
+        this.textObjects = new Object[TaskTable.SLOT_COUNT];
+        this.intervals = new int[TaskTable.SLOT_COUNT];
+        this.nextRuns = new long[TaskTable.SLOT_COUNT];
+        this.localTick = 0;
+    }
+    
+    /**
+     * Starts ticking on the owner's entity scheduler.
+     *
+     * @param plugin the plugin that owns the scheduled task
+     */
+    void start(@NotNull Plugin plugin) {
+        scheduledTask = board.getPlayer().getScheduler().runAtFixedRate(
+            plugin,
+            task -> tick(),
+            null, // Player retired (left the server) - the quit listener removes the board
+            1L,
+            1L
+        );
+    }
+    
+    /** Stops ticking and frees all slots. */
+    void stop() {
+        if (scheduledTask != null) {
+            scheduledTask.cancel();
+            scheduledTask = null;
+        }
+        
+        for (int i = 0; i < TaskTable.SLOT_COUNT; i++) {
+            types[i] = null;
+            textObjects[i] = null;
+        }
+    }
+    
+    /**
+     * Puts a task into its row's slot, replacing the previous one.
+     *
+     * @param task the task to schedule
+     * @param delayTicks ticks until the first run, at least 1
+     */
+    void schedule(@NotNull UpdateTask task, long delayTicks) {
+        int index = TaskTable.index(task.row());
+        types[index] = task.type();
+        textObjects[index] = task.textObject();
+        intervals[index] = task.intervalTicks();
+        nextRuns[index] = localTick + Math.max(1L, delayTicks);
+    }
+    
+    /**
+     * Frees the slot for a row.
+     *
+     * @param row the row number (1-15), or -1 for the title
+     */
+    void cancel(int row) {
+        int index = TaskTable.index(row);
+        types[index] = null;
+        textObjects[index] = null;
+    }
+    
+    /** Runs the board's due tasks and flushes it if needed. Called on the owning region thread. */
+    private void tick() {
+        localTick++;
+        
+        for (int index = 0; index < TaskTable.SLOT_COUNT; index++) {
+            UpdateTask.TaskType type = types[index];
+            if (type == null || nextRuns[index] > localTick) {
+                continue;
+            }
+            
+            Object textObject = textObjects[index];
+            if (intervals[index] > 0) {
+                nextRuns[index] = localTick + intervals[index];
+            } else {
+                types[index] = null;
+                textObjects[index] = null;
+            }
+            
+            heartbeat.executeTask(board, type, index - 1, textObject); // index - 1 is the row
+        }
+        
+        if (board.isDirty()) {
+            // v2.1.0: A slow client keeps only the latest updates until it catches up
+            if (heartbeat.isBatchedFlush() && !board.isConnectionWritable()) {
+                heartbeat.recordDeferredFlush();
+                return;
+            }
+            
+            board.unlinkDirty();
+            board.flushUpdates();
+            board.flushConnection();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.dripps.scorefx.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Storage backend for the tasks pending in the {@link Heartbeat}.
+ * <p>
+ * Tasks are stored as opaque {@code long} references (see {@link TaskTable}) together with
+ * the absolute tick they are due, and handed back through {@link #pollDue(long, LongConsumer)}
+ * once that tick has been reached. Tasks whose execution tick is already in the past when
+ * offered are due on the next poll. Implementations keep references in primitive arrays,
+ * so offering and polling allocate nothing once their storage has grown to size.
+ * </p>
+ * <p>
+ * Queues never remove individual tasks: cancelled tasks stay queued until they come
+ * due and are then discarded by the Heartbeat (see {@link TaskTable}).
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> Implementations are not thread-safe. They are owned
+ * by the Heartbeat and must only be accessed from the thread that drives it.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public interface TaskQueue {
+
+    /**
+     * Adds a task to the queue.
+     *
+     * @param task the task reference
+     * @param executionTick the tick at which the task is due
+     */
+    void offer(long task, long executionTick);
+    
+    /**
+     * Removes every task whose execution tick is at or before {@code currentTick} and
+     * passes it to the consumer, earliest first.
+     * <p>
+     * The consumer may offer new tasks while this method runs; tasks offered for a
+     * tick after {@code currentTick} are not returned by the same call.
+     * </p>
+     *
+     * @param currentTick the current Heartbeat tick
+     * @param consumer receives each due task reference, must not be null
+     */
+    void pollDue(long currentTick, @NotNull LongConsumer consumer);
+    
+    /** Removes all tasks and resets the queue to tick 0. */
+    void clear();
+    
+    /**
+     * Returns the number of pending tasks.
+     *
+     * @return the pending task count
+     */
+    int size();
+}
@@ -0,0 +1,287 @@
+package com.dripps.scorefx.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for every task owned by the {@link Heartbeat}.
+ * <p>
+ * Each registered board gets a dense integer index, and every board has one task slot for
+ * the title and one for each scoreboard row. A slot is addressed by its <em>handle</em>
+ * ({@code boardIndex * SLOT_COUNT + slot}) and its task is stored in primitive arrays
+ * indexed by that handle: generation, type, interval and text. Board index and row are
+ * derived from the handle, and execution ticks are kept next to the references by the
+ * queue, so they need no storage of their own.
+ * </p>
+ * <p>
+ * The {@link TaskQueue}, the {@link IntervalBuckets} and the deferred queue only carry
+ * {@code long} task references that pack a handle with the generation the task was
+ * stamped with. Scheduling a task for a slot stamps it with a fresh generation, which
+ * invalidates every reference to the slot's previous task; cancelling a slot resets it.
+ * Stale references are dropped when they come due, so replacement and cancellation are
+ * O(1), and running a task allocates nothing.
+ * </p>
+ * <p>
+ * Generations are handed out by the Heartbeat from a single counter and are never reused,
+ * so a reference can never match a slot after its board index was freed and reused.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> Not thread-safe; owned by the Heartbeat's thread.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class TaskTable {
+
+    private static final int TITLE_ROW = -1;
+    private static final int MAX_ROW = 15;
+    private static final long NO_TASK = 0L;
+    private static final UpdateTask.TaskType[] TYPES = UpdateTask.TaskType.values();
+    
+    /** Number of slots per board: the title plus rows 0-15 (row 0 is unused). */
+    static final int SLOT_COUNT = MAX_ROW + 2;
+    
+    // A task reference is (generation << HANDLE_BITS) | handle
+    private static final int HANDLE_BITS = 24;
+    private static final long HANDLE_MASK = (1L << HANDLE_BITS) - 1;
+    
+    /** Largest number of boards that can be registered at the same time. */
+    static final int MAX_BOARDS = (1 << HANDLE_BITS) / SLOT_COUNT;
+    
+    // Per-slot task state, indexed by handle
+    private long[] generations;
+    private byte[] types;
+    private int[] intervals;
+    private Object[] textObjects;
+    private boolean[] deferred; // Set while the task waits in the Heartbeat's deferred queue
+    private boolean[] asyncPlaceholders; // Text is resolved off the main thread
+    private boolean[] inFlight; // Set while an off-main resolution for the slot is running
+    
+    // Board index allocation
+    private int[] freeBoards;
+    private int freeBoardCount;
+    private int nextBoard;
+    
+    TaskTable() {
+        this.generations = new long[0];
+        this.types = new byte[0];
+        this.intervals = new int[0];
+        this.textObjects = new Object[0];
+        this.deferred = new boolean[0];
+        this.asyncPlaceholders = new boolean[0];
+        this.inFlight = new boolean[0];
+        this.freeBoards = new int[0];
+        this.freeBoardCount = 0;
+        this.nextBoard = 0;
+    }
+    
+    /**
+     * Allocates a board index with empty slots, reusing freed indices first.
+     *
+     * @return the new board index
+     * @throws IllegalStateException if {@link #MAX_BOARDS} boards are already allocated
+     */
+    int allocateBoard() {
+        if (freeBoardCount > 0) {
+            return freeBoards[--freeBoardCount];
+        }
+        if (nextBoard == MAX_BOARDS) {
+            throw new IllegalStateException("Cannot register more than " + MAX_BOARDS + " boards");
+        }
+        
+        int boardIndex = nextBoard++;
+        if (nextBoard * SLOT_COUNT > generations.length) {
+            grow(Math.min(MAX_BOARDS, Math.max(16, nextBoard * 2)));
+        }
+        return boardIndex;
+    }
+    
+    /**
+     * Clears every slot of a board and returns its index for reuse.
+     *
+     * @param boardIndex the index returned by {@link #allocateBoard()}
+     */
+    void freeBoard(int boardIndex) {
+        int from = boardIndex * SLOT_COUNT;
+        int to = from + SLOT_COUNT;
+        Arrays.fill(generations, from, to, NO_TASK);
+        Arrays.fill(textObjects, from, to, null);
+        Arrays.fill(deferred, from, to, false);
+        Arrays.fill(asyncPlaceholders, from, to, false);
+        Arrays.fill(inFlight, from, to, false);
+        
+        if (freeBoardCount == freeBoards.length) {
+            freeBoards = Arrays.copyOf(freeBoards, Math.max(16, freeBoardCount * 2));
+        }
+        freeBoards[freeBoardCount++] = boardIndex;
+    }
+    
+    /** Clears every slot of every board; allocated board indices stay valid. */
+    void clearTasks() {
+        Arrays.fill(generations, NO_TASK);
+        Arrays.fill(textObjects, null);
+        Arrays.fill(deferred, false);
+        Arrays.fill(asyncPlaceholders, false);
+        Arrays.fill(inFlight, false);
+    }
+    
+    /**
+     * Hands a slot to a new task, invalidating whatever task owned it before.
+     *
+     * @param handle the slot handle
+     * @param generation the fresh generation of the new task
+     * @param type the type of update to perform
+     * @param intervalTicks the interval between runs, or 0 for a one-time task
+     * @param textObject the text to process
+     * @param asyncPlaceholders true if the text's placeholders are resolved off the main thread
+     * @return the reference of the new task
+     */
+    long assign(
+        int handle,
+        long generation,
+        @NotNull UpdateTask.TaskType type,
+        int intervalTicks,
+        @NotNull Object textObject,
+        boolean asyncPlaceholders
+    ) {
+        generations[handle] = generation;
+        types[handle] = (byte) type.ordinal();
+        intervals[handle] = intervalTicks;
+        textObjects[handle] = textObject;
+        deferred[handle] = false;
+        this.asyncPlaceholders[handle] = asyncPlaceholders;
+        inFlight[handle] = false;
+        return (generation << HANDLE_BITS) | handle;
+    }
+    
+    /**
+     * Checks whether a task reference still owns its slot.
+     *
+     * @param task the task reference
+     * @return true if the task is current, false if it was replaced or cancelled
+     */
+    boolean isCurrent(long task) {
+        long generation = task >>> HANDLE_BITS;
+        return generation != NO_TASK && generations[handle(task)] == generation;
+    }
+    
+    /**
+     * Frees a slot, invalidating whatever task owns it.
+     *
+     * @param handle the slot handle
+     */
+    void clear(int handle) {
+        generations[handle] = NO_TASK;
+        textObjects[handle] = null;
+    }
+    
+    /**
+     * Frees a slot only if it is still owned by the given task.
+     *
+     * @param task the reference of the finished task
+     */
+    void release(long task) {
+        if (isCurrent(task)) {
+            clear(handle(task));
+        }
+    }
+    
+    /** Returns the type of a slot's task. */
+    @NotNull
+    UpdateTask.TaskType type(int handle) {
+        return TYPES[types[handle]];
+    }
+    
+    /** Returns the interval of a slot's task, or 0 for a one-time task. */
+    int interval(int handle) {
+        return intervals[handle];
+    }
+    
+    /** Returns the text of a slot's task. */
+    Object textObject(int handle) {
+        return textObjects[handle];
+    }
+    
+    /** Returns true while a slot's task waits in the deferred queue. */
+    boolean isDeferred(int handle) {
+        return deferred[handle];
+    }
+    
+    /** Sets whether a slot's task waits in the deferred queue. */
+    void setDeferred(int handle, boolean value) {
+        deferred[handle] = value;
+    }
+    
+    /** Returns true if a slot's placeholders are resolved off the main thread. */
+    boolean isAsyncPlaceholders(int handle) {
+        return asyncPlaceholders[handle];
+    }
+    
+    /** Returns true while an off-main resolution for a slot is running. */
+    boolean isInFlight(int handle) {
+        return inFlight[handle];
+    }
+    
+    /** Sets whether an off-main resolution for a slot is running. */
+    void setInFlight(int handle, boolean value) {
+        inFlight[handle] = value;
+    }
+    
+    /**
+     * Returns the slot handle of a board row.
+     *
+     * @param boardIndex the board index
+     * @param row the row number (1-15), or -1 for the title
+     * @return the slot handle
+     */
+    static int handle(int boardIndex, int row) {
+        return boardIndex * SLOT_COUNT + index(row);
+    }
+    
+    /** Returns the slot handle a task reference points to. */
+    static int handle(long task) {
+        return (int) (task & HANDLE_MASK);
+    }
+    
+    /** Returns the board index of a slot handle. */
+    static int boardIndex(int handle) {
+        return handle / SLOT_COUNT;
+    }
+    
+    /** Returns the row number (1-15, or -1 for the title) of a slot handle. */
+    static int row(int handle) {
+        return handle % SLOT_COUNT - 1;
+    }
+    
+    /**
+     * Checks whether a row number can own a slot.
+     *
+     * @param row the row number to check
+     * @return true for the title row and rows 1-15
+     */
+    static boolean isValidRow(int row) {
+        return row == TITLE_ROW || (row >= 1 && row <= MAX_ROW);
+    }
+    
+    /**
+     * Maps a row number to its slot index within a board.
+     *
+     * @param row the row number (1-15), or -1 for the title
+     * @return the slot index, between 0 and {@link #SLOT_COUNT} - 1
+     */
+    static int index(int row) {
+        return row + 1;
+    }
+    
+    private void grow(int boardCapacity) {
+        int capacity = boardCapacity * SLOT_COUNT;
+        generations = Arrays.copyOf(generations, capacity);
+        types = Arrays.copyOf(types, capacity);
+        intervals = Arrays.copyOf(intervals, capacity);
+        textObjects = Arrays.copyOf(textObjects, capacity);
+        deferred = Arrays.copyOf(deferred, capacity);
+        asyncPlaceholders = Arrays.copyOf(asyncPlaceholders, capacity);
+        inFlight = Arrays.copyOf(inFlight, capacity);
+    }
+}
@@ -0,0 +1,203 @@
+package com.dripps.scorefx.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link TaskQueue} implemented as a hierarchical timing wheel keyed on the Heartbeat tick.
+ * <p>
+ * The wheel has {@value #LEVELS} levels of {@value #WHEEL_SIZE} slots each. Level 0 holds
+ * tasks due within the current 64-tick block, one slot per tick; each higher level covers
+ * 64 times the span of the level below it. A task is placed on the lowest level whose block
+ * contains both the current tick and its execution tick, so insertion is O(1). When the
+ * tick counter crosses a block boundary, the matching slot of the level above is cascaded
+ * down, and every task is moved at most once per level before it expires.
+ * </p>
+ * <p>
+ * Tasks further than 2<sup>24</sup> ticks (about 9.7 days at 20 TPS) in the future are kept
+ * in an overflow list that is re-examined each time the top level wraps around.
+ * </p>
+ * <p>
+ * Every slot stores its task references and execution ticks in primitive arrays that are
+ * reused once grown, so advancing the wheel allocates nothing.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class TimingWheelTaskQueue implements TaskQueue {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS; // 64 slots per level
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    
+    private final Slot[] slots; // level * WHEEL_SIZE + slot -> tasks
+    private Slot overflow;
+    private Slot spare; // Swapped with the overflow slot while it is cascaded
+    
+    private long now; // Last tick that has been advanced to
+    private int size;
+    
+    /**
+     * Creates a new, empty TimingWheelTaskQueue positioned at tick 0.
+     */
+    public TimingWheelTaskQueue() {
+        this.slots = new Slot[LEVELS * WHEEL_SIZE];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot();
+        }
+        this.overflow = new Slot();
+        this.spare = new Slot();
+        this.now = 0;
+        this.size = 0;
+    }
+    
+    @Override
+    public void offer(long task, long executionTick) {
+        // Overdue tasks run on the next tick, matching the PriorityQueue behaviour
+        place(task, Math.max(executionTick, now + 1));
+        size++;
+    }
+    
+    @Override
+    public void pollDue(long currentTick, @NotNull LongConsumer consumer) {
+        while (now < currentTick) {
+            advance(consumer);
+        }
+    }
+    
+    @Override
+    public void clear() {
+        for (Slot slot : slots) {
+            slot.clear();
+        }
+        overflow.clear();
+        now = 0;
+        size = 0;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Advances the wheel by one tick, cascading higher levels when a block boundary is
+     * crossed and handing every task due on the new tick to the consumer.
+     */
+    private void advance(@NotNull LongConsumer consumer) {
+        now++;
+        
+        if ((now & WHEEL_MASK) == 0) {
+            // Find the highest level whose block boundary was crossed on this tick
+            int highest = 1;
+            while (highest < LEVELS - 1 && digit(now, highest) == 0) {
+                highest++;
+            }
+            if (highest == LEVELS - 1 && digit(now, highest) == 0) {
+                cascadeOverflow();
+            }
+            
+            // Cascade top-down so tasks moved into a lower slot are picked up by its own cascade
+            for (int level = highest; level >= 1; level--) {
+                cascade(slots[level * WHEEL_SIZE + digit(now, level)]);
+            }
+        }
+        
+        Slot due = slots[(int) (now & WHEEL_MASK)];
+        if (due.size == 0) {
+            return;
+        }
+        
+        // Tasks offered by the consumer always land in a different slot, so indexed iteration is safe
+        for (int i = 0; i < due.size; i++) {
+            consumer.accept(due.tasks[i]);
+        }
+        size -= due.size;
+        due.clear();
+    }
+    
+    /**
+     * Re-places every task of a higher-level slot relative to the current tick.
+     *
+     * @param slot the slot to empty
+     */
+    private void cascade(@NotNull Slot slot) {
+        if (slot.size == 0) {
+            return;
+        }
+        
+        for (int i = 0; i < slot.size; i++) {
+            place(slot.tasks[i], Math.max(slot.ticks[i], now));
+        }
+        slot.clear();
+    }
+    
+    /**
+     * Re-places every overflow task after the top level has wrapped around.
+     */
+    private void cascadeOverflow() {
+        if (overflow.size == 0) {
+            return;
+        }
+        
+        // Tasks that are still out of range go back into the (swapped-in) empty slot
+        Slot pending = overflow;
+        overflow = spare;
+        spare = pending;
+        
+        for (int i = 0; i < pending.size; i++) {
+            place(pending.tasks[i], Math.max(pending.ticks[i], now));
+        }
+        pending.clear();
+    }
+    
+    /**
+     * Puts a task on the lowest level whose block contains both the current tick and the deadline.
+     *
+     * @param task the task reference to place
+     * @param deadline the tick the task is due, never before the current tick
+     */
+    private void place(long task, long deadline) {
+        for (int level = 0; level < LEVELS; level++) {
+            int blockShift = WHEEL_BITS * (level + 1);
+            if ((deadline >>> blockShift) == (now >>> blockShift)) {
+                slots[level * WHEEL_SIZE + digit(deadline, level)].add(task, deadline);
+                return;
+            }
+        }
+        
+        overflow.add(task, deadline);
+    }
+    
+    /**
+     * Returns the slot index of a tick on the given level.
+     */
+    private static int digit(long tick, int level) {
+        return (int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+    }
+    
+    /** Growable pair of arrays holding the task references and deadlines of one slot. */
+    private static final class Slot {
+    
+        private long[] tasks = new long[4];
+        private long[] ticks = new long[4];
+        private int size;
+        
+        private void add(long task, long tick) {
+            if (size == tasks.length) {
+                tasks = Arrays.copyOf(tasks, size * 2);
+                ticks = Arrays.copyOf(ticks, size * 2);
+            }
+            tasks[size] = task;
+            ticks[size] = tick;
+            size++;
+        }
+        
+        private void clear() {
+            size = 0;
+        }
+    }
+}
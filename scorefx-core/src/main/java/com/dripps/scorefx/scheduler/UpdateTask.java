@@ -5,20 +5,22 @@ import java.util.UUID;
 
 /**
  * Represents a scheduled update task for the Heartbeat scheduler.
- * Encapsulates when and what to update on a player's scoreboard. Ordered by
- * scheduled execution tick (earlier runs first).
+ * Encapsulates when and what to update on a player's scoreboard.
  *
  * As of 1.1.0, textObject can be a String (legacy placeholder updates) or other types
  * (typically unused for animations) to support an Adventure-first design.
  *
+ * As of 2.1.0 this record only describes a task to schedule: the Heartbeat copies it into
+ * its primitive task table when it is scheduled and does not keep the record itself, so
+ * running and rescheduling tasks allocates nothing.
+ *
  * @param type the type of update to perform
  * @param boardId the UUID of the player who owns the board
- * @param executionTick the server tick at which this task should execute
+ * @param executionTick the server tick at which this task should first execute
  * @param row the row number for line updates (1-15), or -1 for title updates
  * @param textObject the text object to process - String for placeholder updates, or empty string for animations
- * @param animationId optional animation identifier for animated content, or null
  * @param intervalTicks the interval in ticks before this task should repeat (0 for one-time tasks)
- * @since 1.0 (textObject changed from String text in 1.1.0)
+ * @since 1.0 (textObject changed from String text in 1.1.0, animationId removed in 2.1.0)
  */
 public record UpdateTask(
     @NotNull TaskType type,
@@ -26,10 +28,9 @@ public record UpdateTask(
     long executionTick,
     int row,
     @NotNull Object textObject,
-    String animationId,
     int intervalTicks
-) implements Comparable<UpdateTask> {
-    
+) {
+
     /** Compact constructor for validation. */
     public UpdateTask {
         if (type == null) {
@@ -46,30 +47,6 @@ public record UpdateTask(
         }
     }
     
-    /** Compare by execution tick for priority ordering. */
-    @Override
-    public int compareTo(@NotNull UpdateTask other) {
-        return Long.compare(this.executionTick, other.executionTick);
-    }
-    
-    /** Reschedule this recurring task for currentTick + intervalTicks. */
-    @NotNull
-    public UpdateTask reschedule(long currentTick) {
-        if (intervalTicks == 0) {
-            throw new IllegalStateException("Cannot reschedule a one-time task");
-        }
-        
-        return new UpdateTask(
-            type,
-            boardId,
-            currentTick + intervalTicks,
-            row,
-            textObject,
-            animationId,
-            intervalTicks
-        );
-    }
-    
     /** Returns true if intervalTicks > 0 (recurring). */
     public boolean isRecurring() {
         return intervalTicks > 0;
@@ -78,15 +55,45 @@ public record UpdateTask(
     /** The type of update operation this task performs. */
     public enum TaskType {
         /** Update a static line with text (may contain placeholders). */
-        LINE_UPDATE,
+        LINE_UPDATE(Priority.BEST_EFFORT),
         
         /** Advance an animated line to its next frame. */
-        LINE_ANIMATION,
+        LINE_ANIMATION(Priority.LATENCY_SENSITIVE),
         
         /** Update the title with static text (may contain placeholders). */
-        TITLE_UPDATE,
+        TITLE_UPDATE(Priority.BEST_EFFORT),
         
         /** Advance the title animation to its next frame. */
-        TITLE_ANIMATION
+        TITLE_ANIMATION(Priority.LATENCY_SENSITIVE);
+        
+        private final Priority priority;
+        
+        TaskType(@NotNull Priority priority) {
+            this.priority = priority;
+        }
+        
+        /**
+         * Returns the priority class the Heartbeat uses when the tick budget runs out.
+         *
+         * @return the priority class of this task type
+         * @since 2.1.0
+         */
+        @NotNull
+        public Priority priority() {
+            return priority;
+        }
+    }
+    
+    /**
+     * Priority classes used by the Heartbeat's per-tick time budget.
+     *
+     * @since 2.1.0
+     */
+    public enum Priority {
+        /** Always runs on time, even when the tick budget is exhausted (animation frames). */
+        LATENCY_SENSITIVE,
+        
+        /** Deferred to the next tick when the tick budget is exhausted (placeholder refreshes). */
+        BEST_EFFORT
     }
 }
@@ -0,0 +1,354 @@
+package com.dripps.scorefx.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A size-bounded cache with CLOCK (second chance) eviction.
+ * <p>
+ * Lookups are a single {@link ConcurrentHashMap} read plus setting the entry's reference
+ * bit. When an insert takes the cache over its maximum size, the clock hand walks the
+ * entries in insertion order: an entry referenced since the hand last passed gets a second
+ * chance, the first unreferenced one is evicted. Frequently used entries therefore stay,
+ * while one-off values are evicted after one lap.
+ * </p>
+ * <p>
+ * With frequency admission (TinyLFU), every lookup is also counted in a
+ * {@link FrequencySketch}. Once the cache is full, a newly loaded value is only cached if its
+ * key has been requested more often than the entry the clock hand would evict; otherwise
+ * the value is returned without being cached. A stream of one-off keys, such as placeholder
+ * values that change every refresh, then cannot push out the entries that are hit all the
+ * time.
+ * </p>
+ * <p>
+ * Keys can be pinned, e.g. the frames of a running animation. A pinned key is never
+ * evicted, even before its value is loaded; if more keys are pinned than fit, the cache
+ * grows past its maximum size instead.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> This class is thread-safe. Values may be loaded twice when
+ * two threads miss the same key at once; the first one stored wins.
+ * </p>
+ *
+ * @param <K> the key type, must have value-based {@code equals} and {@code hashCode}
+ * @param <V> the value type
+ * @since 2.1.0
+ */
+public final class BoundedCache<K, V> {
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<K, Node<V>> map;
+    private final Queue<K> clock; // Head = clock hand, keys in insertion order
+    private final ConcurrentHashMap<K, Integer> pinned; // key -> number of pins
+    private final Object evictionLock;
+    private final FrequencySketch sketch; // null = admit every loaded value
+    
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LongAdder rejections;
+    
+    /**
+     * Creates an empty cache.
+     *
+     * @param maximumSize the number of entries to keep, must be positive
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, false);
+    }
+    
+    /**
+     * Creates an empty cache, optionally with frequency admission.
+     *
+     * @param maximumSize the number of entries to keep, must be positive
+     * @param frequencyAdmission true to cache a new value only if its key is requested more
+     *                           often than the entry it would replace
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public BoundedCache(int maximumSize, boolean frequencyAdmission) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive, got: " + maximumSize);
+        }
+        
+        this.maximumSize = maximumSize;
+        this.map = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.pinned = new ConcurrentHashMap<>();
+        this.evictionLock = new Object();
+        this.sketch = frequencyAdmission ? new FrequencySketch(maximumSize) : null;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.rejections = new LongAdder();
+    }
+    
+    /**
+     * Returns the cached value for a key, loading and caching it on a miss.
+     *
+     * @param key the key
+     * @param loader computes the value on a miss; a null result is returned but not cached
+     * @return the value, or null if the loader returned null
+     */
+    @Nullable
+    public V get(@NotNull K key, @NotNull Function<? super K, ? extends V> loader) {
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        
+        Node<V> node = map.get(key);
+        if (node != null) {
+            node.markReferenced();
+            hits.increment();
+            return node.value;
+        }
+        
+        misses.increment();
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        
+        // v2.1.0: A full cache only takes keys requested more often than its victim
+        if (sketch != null && map.size() >= maximumSize && !pinned.containsKey(key) && !admit(key)) {
+            rejections.increment();
+            return value;
+        }
+        
+        Node<V> existing = map.putIfAbsent(key, new Node<>(value));
+        if (existing != null) {
+            return existing.value; // Loaded concurrently
+        }
+        
+        clock.offer(key);
+        if (map.size() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+    
+    /**
+     * Returns the cached value for a key without loading it. Counts as a hit or a miss.
+     *
+     * @param key the key
+     * @return the value, or null if it is not cached
+     */
+    @Nullable
+    public V getIfPresent(@NotNull K key) {
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        
+        Node<V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        
+        node.markReferenced();
+        hits.increment();
+        return node.value;
+    }
+    
+    /**
+     * Protects a key from eviction until it is unpinned. The key does not need to be cached yet.
+     * <p>
+     * Pins are counted: a key pinned twice, e.g. an equal frame of two animations, stays
+     * pinned until it has been unpinned twice.
+     * </p>
+     *
+     * @param key the key to pin
+     */
+    public void pin(@NotNull K key) {
+        pinned.merge(key, 1, Integer::sum);
+    }
+    
+    /**
+     * Releases one pin of a key. The key can be evicted again once every pin is released.
+     *
+     * @param key the key to unpin
+     */
+    public void unpin(@NotNull K key) {
+        pinned.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+    
+    /**
+     * Removes all entries. Pins and counters are kept.
+     */
+    public void clear() {
+        synchronized (evictionLock) {
+            map.clear();
+            clock.clear();
+        }
+    }
+    
+    /**
+     * Evicts entries until the cache fits its maximum size again, or every entry has had
+     * its second chance and only pinned entries are left.
+     */
+    private void evict() {
+        synchronized (evictionLock) {
+            // Two laps: one to clear reference bits, one to find a victim
+            int budget = map.size() * 2 + 1;
+            while (map.size() > maximumSize && budget-- > 0) {
+                K key = clock.poll();
+                if (key == null) {
+                    return;
+                }
+                
+                Node<V> node = map.get(key);
+                if (node == null) {
+                    continue; // Removed by clear()
+                }
+                
+                if (node.referenced || pinned.containsKey(key)) {
+                    node.referenced = false;
+                    clock.offer(key); // Second chance
+                    continue;
+                }
+                
+                if (map.remove(key, node)) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Decides whether a new key may replace the entry the clock hand would evict next, and
+     * evicts that entry if so. Referenced entries get their second chance on the way, as in
+     * {@link #evict()}.
+     *
+     * @param candidate the key about to be cached
+     * @return true if the candidate is more frequent than the victim, or there is no victim
+     */
+    private boolean admit(@NotNull K candidate) {
+        synchronized (evictionLock) {
+            int budget = map.size() * 2 + 1;
+            while (budget-- > 0) {
+                K key = clock.poll();
+                if (key == null) {
+                    return true;
+                }
+                
+                Node<V> node = map.get(key);
+                if (node == null) {
+                    continue; // Removed by clear()
+                }
+                
+                if (node.referenced || pinned.containsKey(key)) {
+                    node.referenced = false;
+                    clock.offer(key); // Second chance
+                    continue;
+                }
+                
+                if (sketch.frequency(candidate) <= sketch.frequency(key)) {
+                    clock.offer(key); // The victim stays, the candidate is not cached
+                    return false;
+                }
+                
+                if (map.remove(key, node)) {
+                    evictions.increment();
+                }
+                return true;
+            }
+            return true; // Only pinned entries left, grow instead
+        }
+    }
+    
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return map.size();
+    }
+    
+    /**
+     * Gets the maximum number of entries, not counting pinned entries that do not fit.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+    
+    /**
+     * Gets the number of lookups that found a cached value.
+     *
+     * @return the hit count since the cache was created
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    /**
+     * Gets the number of lookups that did not find a cached value.
+     *
+     * @return the miss count since the cache was created
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    /**
+     * Gets the number of entries evicted to stay within the maximum size.
+     *
+     * @return the eviction count since the cache was created
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+    
+    /**
+     * Gets the number of loaded values that were not cached because frequency admission
+     * preferred the entry they would have replaced. Always 0 without frequency admission.
+     *
+     * @return the rejection count since the cache was created
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+    
+    /**
+     * Formats the size and counters for diagnostics.
+     *
+     * @return e.g. {@code "size=120/4096, hits=9000, misses=120, evictions=0"}, plus
+     *         {@code ", rejections=5"} with frequency admission
+     */
+    @NotNull
+    public String describe() {
+        String description = "size=" + size() + "/" + maximumSize
+            + ", hits=" + getHitCount()
+            + ", misses=" + getMissCount()
+            + ", evictions=" + getEvictionCount();
+        return sketch != null ? description + ", rejections=" + getRejectionCount() : description;
+    }
+    
+    /**
+     * A cached value and its CLOCK reference bit.
+     */
+    private static final class Node<V> {
+    
+        final V value;
+        volatile boolean referenced;
+        
+        Node(V value) {
+            this.value = value;
+        }
+        
+        void markReferenced() {
+            // Avoid writing to a shared cache line on every hit
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
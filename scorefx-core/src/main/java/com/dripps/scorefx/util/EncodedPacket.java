@@ -0,0 +1,48 @@
+package com.dripps.scorefx.util;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A packet encoded once by {@link PacketHelper#encodePacket}, ready to be written to many
+ * players' channels.
+ * <p>
+ * The bytes are shared: every write sends a retained duplicate, so encoding is paid once
+ * per distinct packet instead of once per player. The original packet is kept for players
+ * whose channel cannot be written directly; they are sent the packet as usual.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> This class is immutable and thread-safe.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class EncodedPacket {
+
+    private final Object packet;
+    private final Object buffer; // io.netty.buffer.ByteBuf, never written to after encoding
+    
+    EncodedPacket(@NotNull Object packet, @NotNull Object buffer) {
+        this.packet = packet;
+        this.buffer = buffer;
+    }
+    
+    /**
+     * Gets the packet that was encoded.
+     *
+     * @return the NMS packet
+     */
+    @NotNull
+    public Object getPacket() {
+        return packet;
+    }
+    
+    /**
+     * Gets the encoded bytes.
+     *
+     * @return the ByteBuf
+     */
+    @NotNull
+    Object getBuffer() {
+        return buffer;
+    }
+}
@@ -0,0 +1,122 @@
+package com.dripps.scorefx.util;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Approximate access counts for the TinyLFU admission of a {@link BoundedCache}.
+ * <p>
+ * A count-min sketch of 4-bit counters, sixteen to a {@code long}: each key is counted in
+ * four counters picked by independent hashes, and its frequency is the smallest of them,
+ * which overestimates only on collisions. Counters saturate at 15. After ten increments per
+ * cache slot, every counter is halved, so keys that were popular long ago lose their
+ * advantage over keys that are popular now.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> Counters are updated without synchronization. Racing
+ * increments may be lost, which only makes the counts slightly less exact.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = { // One per hash function
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L; // Drops the bit shifted in from the next counter
+    private static final int MAX_COUNT = 15;
+    
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize; // Increments between two halvings
+    private int additions;
+    
+    /**
+     * Creates a sketch sized for a cache.
+     *
+     * @param maximumSize the cache's maximum size, must be positive
+     */
+    FrequencySketch(int maximumSize) {
+        int size = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 30)) - 1) << 1;
+        this.table = new long[size];
+        this.tableMask = size - 1;
+        this.sampleSize = 10 * Math.max(16, maximumSize);
+        this.additions = 0;
+    }
+    
+    /**
+     * Estimates how often a key was counted since the counters were last halved.
+     *
+     * @param key the key
+     * @return the estimated count, 0-15
+     */
+    int frequency(@NotNull Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = hash(hash, i);
+            int offset = counterOffset(h);
+            int count = (int) ((table[(int) h & tableMask] >>> offset) & MAX_COUNT);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+    
+    /**
+     * Counts an access to a key, halving all counters once enough accesses were counted.
+     *
+     * @param key the key
+     */
+    void increment(@NotNull Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = hash(hash, i);
+            added |= incrementAt((int) h & tableMask, counterOffset(h));
+        }
+        
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+    
+    /**
+     * Increments one counter unless it is saturated.
+     *
+     * @return true if the counter was incremented
+     */
+    private boolean incrementAt(int index, int offset) {
+        long mask = (long) MAX_COUNT << offset;
+        long word = table[index];
+        if ((word & mask) == mask) {
+            return false;
+        }
+        table[index] = word + (1L << offset);
+        return true;
+    }
+    
+    /** Halves every counter. */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions = sampleSize / 2;
+    }
+    
+    /** Mixes a hash code, so keys with similar hash codes use different counters. */
+    private static int spread(int hashCode) {
+        int x = hashCode * 0x9e3779b9;
+        return x ^ (x >>> 16);
+    }
+    
+    /** The i-th hash of a key: the low bits pick the word, the high bits the counter in it. */
+    private static long hash(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        return h ^ (h >>> 29);
+    }
+    
+    /** The bit offset of the counter selected by a hash within its word, 0-60. */
+    private static int counterOffset(long h) {
+        return ((int) (h >>> 40) & 15) << 2;
+    }
+}
@@ -4,6 +4,8 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Function;
+
 /**
  * Utility class for converting legacy String-based text to Adventure Components.
  * <p>
@@ -22,13 +24,20 @@ import org.jetbrains.annotations.NotNull;
  * </ul>
  * </p>
  * <p>
- * This class is thread-safe as all methods are static and use immutable serializers.
+ * As of v2.1.0, conversions are cached: the same strings (rank prefixes, formatted lines,
+ * common placeholder values) are converted over and over for every player. The cache uses
+ * frequency admission, so strings seen only once, such as a placeholder value that changes
+ * every refresh, do not evict the ones that repeat.
+ * </p>
+ * <p>
+ * This class is thread-safe as all methods are static and use immutable serializers and a
+ * concurrent cache. Components are immutable, so cached ones can be shared.
  * </p>
  *
  * @since 1.1.0
  */
 public final class LegacySupport {
-    
+
     /**
      * The legacy component serializer configured to parse '&amp;' codes and hex colors.
      * This serializer is immutable and thread-safe.
@@ -39,6 +48,20 @@ public final class LegacySupport {
                     .character('&')           // Use '&' as the formatting character
                     .build();
     
+    /**
+     * Parses a string the cache does not hold yet. Kept in a field so that lookups do not
+     * create a new method reference each time.
+     */
+    private static final Function<String, Component> DESERIALIZER = SERIALIZER::deserialize;
+    
+    private static final int COMPONENT_CACHE_SIZE = 4096;
+    
+    /**
+     * Converted strings (v2.1.0), keyed by the legacy text.
+     */
+    private static final BoundedCache<String, Component> COMPONENTS =
+            new BoundedCache<>(COMPONENT_CACHE_SIZE, true);
+    
     /**
      * Private constructor to prevent instantiation.
      * This is a utility class and should only be used via static methods.
@@ -72,6 +95,17 @@ public final class LegacySupport {
      */
     @NotNull
     public static Component toComponent(@NotNull String text) {
-        return SERIALIZER.deserialize(text);
+        return COMPONENTS.get(text, DESERIALIZER);
+    }
+    
+    /**
+     * Formats the conversion cache's size and counters for diagnostics.
+     *
+     * @return the cache statistics, see {@link BoundedCache#describe()}
+     * @since 2.1.0
+     */
+    @NotNull
+    public static String describeCache() {
+        return COMPONENTS.describe();
     }
 }
@@ -0,0 +1,239 @@
+package com.dripps.scorefx.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+/**
+ * Utility class for the Netty channel operations behind shared encoding, batched flushing
+ * and event loop dispatch.
+ * <p>
+ * ScoreFX does not depend on Netty at compile time; the server ships it. The handles are
+ * looked up from Netty's own classes only, independently of the NMS classes
+ * {@link PacketHelper} resolves, so channels can be written to as soon as one is known.
+ * If Netty is missing, {@link #isAvailable()} is false and callers fall back to sending
+ * packets through the player's connection.
+ * </p>
+ * <p>
+ * This class is thread-safe as all methods are static and the handles are immutable.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class NettySupport {
+
+    private static final Logger LOGGER = Logger.getLogger("ScoreFX");
+    
+    private static final MethodHandle CHANNEL_PIPELINE_METHOD;
+    private static final MethodHandle PIPELINE_GET_METHOD;
+    private static final MethodHandle CHANNEL_WRITE_METHOD;
+    private static final MethodHandle CHANNEL_WRITE_AND_FLUSH_METHOD;
+    private static final MethodHandle CHANNEL_FLUSH_METHOD;
+    private static final MethodHandle CHANNEL_IS_WRITABLE_METHOD;
+    private static final MethodHandle CHANNEL_EVENT_LOOP_METHOD;
+    private static final MethodHandle UNPOOLED_BUFFER_METHOD;
+    private static final MethodHandle BYTE_BUF_RETAINED_DUPLICATE_METHOD;
+    
+    static {
+        MethodHandle channelPipelineMethod = null;
+        MethodHandle pipelineGetMethod = null;
+        MethodHandle channelWriteMethod = null;
+        MethodHandle channelWriteAndFlushMethod = null;
+        MethodHandle channelFlushMethod = null;
+        MethodHandle channelIsWritableMethod = null;
+        MethodHandle channelEventLoopMethod = null;
+        MethodHandle unpooledBufferMethod = null;
+        MethodHandle byteBufRetainedDuplicateMethod = null;
+        
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Class<?> channelClass = Class.forName("io.netty.channel.Channel");
+            Class<?> channelFutureClass = Class.forName("io.netty.channel.ChannelFuture");
+            Class<?> pipelineClass = Class.forName("io.netty.channel.ChannelPipeline");
+            Class<?> channelHandlerClass = Class.forName("io.netty.channel.ChannelHandler");
+            Class<?> byteBufClass = Class.forName("io.netty.buffer.ByteBuf");
+            Class<?> unpooledClass = Class.forName("io.netty.buffer.Unpooled");
+            
+            channelPipelineMethod = lookup.findVirtual(channelClass, "pipeline", MethodType.methodType(pipelineClass));
+            pipelineGetMethod = lookup.findVirtual(
+                pipelineClass,
+                "get",
+                MethodType.methodType(channelHandlerClass, String.class)
+            );
+            channelWriteMethod = lookup.findVirtual(
+                channelClass,
+                "write",
+                MethodType.methodType(channelFutureClass, Object.class)
+            );
+            channelWriteAndFlushMethod = lookup.findVirtual(
+                channelClass,
+                "writeAndFlush",
+                MethodType.methodType(channelFutureClass, Object.class)
+            );
+            channelFlushMethod = lookup.findVirtual(channelClass, "flush", MethodType.methodType(channelClass));
+            channelIsWritableMethod = lookup.findVirtual(channelClass, "isWritable", MethodType.methodType(boolean.class));
+            channelEventLoopMethod = lookup.findVirtual(
+                channelClass,
+                "eventLoop",
+                MethodType.methodType(Class.forName("io.netty.channel.EventLoop"))
+            );
+            unpooledBufferMethod = lookup.findStatic(unpooledClass, "buffer", MethodType.methodType(byteBufClass));
+            byteBufRetainedDuplicateMethod = lookup.findVirtual(
+                byteBufClass,
+                "retainedDuplicate",
+                MethodType.methodType(byteBufClass)
+            );
+        } catch (Throwable t) {
+            LOGGER.fine("[NettySupport] Netty not available - packets go through the connection only");
+            channelPipelineMethod = null;
+            pipelineGetMethod = null;
+            channelWriteMethod = null;
+            channelWriteAndFlushMethod = null;
+            channelFlushMethod = null;
+            channelIsWritableMethod = null;
+            channelEventLoopMethod = null;
+            unpooledBufferMethod = null;
+            byteBufRetainedDuplicateMethod = null;
+        }
+        
+        CHANNEL_PIPELINE_METHOD = channelPipelineMethod;
+        PIPELINE_GET_METHOD = pipelineGetMethod;
+        CHANNEL_WRITE_METHOD = channelWriteMethod;
+        CHANNEL_WRITE_AND_FLUSH_METHOD = channelWriteAndFlushMethod;
+        CHANNEL_FLUSH_METHOD = channelFlushMethod;
+        CHANNEL_IS_WRITABLE_METHOD = channelIsWritableMethod;
+        CHANNEL_EVENT_LOOP_METHOD = channelEventLoopMethod;
+        UNPOOLED_BUFFER_METHOD = unpooledBufferMethod;
+        BYTE_BUF_RETAINED_DUPLICATE_METHOD = byteBufRetainedDuplicateMethod;
+    }
+    
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class and should only be used via static methods.
+     */
+    private NettySupport() {
+        throw new UnsupportedOperationException("NettySupport is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Checks whether the Netty handles were found.
+     *
+     * @return true if channels can be written to directly
+     */
+    static boolean isAvailable() {
+        return BYTE_BUF_RETAINED_DUPLICATE_METHOD != null;
+    }
+    
+    /**
+     * Gets a handler from a channel's pipeline by name.
+     *
+     * @param channel the Netty channel
+     * @param name the handler's name, e.g. {@code "encoder"}
+     * @return the handler, or null if the pipeline has none by that name
+     * @throws Throwable if the channel is not a Netty channel
+     */
+    @Nullable
+    static Object getHandler(@NotNull Object channel, @NotNull String name) throws Throwable {
+        return PIPELINE_GET_METHOD.invoke(CHANNEL_PIPELINE_METHOD.invoke(channel), name);
+    }
+    
+    /**
+     * Allocates an unpooled heap buffer, freed by the garbage collector.
+     *
+     * @return a new empty ByteBuf
+     * @throws Throwable if Netty is not available
+     */
+    @NotNull
+    static Object newBuffer() throws Throwable {
+        return UNPOOLED_BUFFER_METHOD.invoke();
+    }
+    
+    /**
+     * Writes a retained duplicate of an encoded packet to a channel. The channel's pipeline
+     * releases the duplicate once it is written; the original stays readable.
+     *
+     * @param channel the Netty channel
+     * @param encoded the encoded packet
+     * @param flush false to leave the packet in the channel until the next flush
+     * @return true if the packet was written
+     */
+    static boolean writeEncoded(@NotNull Object channel, @NotNull EncodedPacket encoded, boolean flush) {
+        if (!isAvailable()) {
+            return false;
+        }
+        
+        try {
+            Object duplicate = BYTE_BUF_RETAINED_DUPLICATE_METHOD.invoke(encoded.getBuffer());
+            if (flush) {
+                CHANNEL_WRITE_AND_FLUSH_METHOD.invoke(channel, duplicate);
+            } else {
+                CHANNEL_WRITE_METHOD.invoke(channel, duplicate);
+            }
+            return true;
+        } catch (Throwable t) {
+            LOGGER.warning("[NettySupport] Failed to write shared packet: " + t.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Flushes everything written to a channel since its last flush.
+     *
+     * @param channel the Netty channel
+     */
+    static void flush(@NotNull Object channel) {
+        if (!isAvailable()) {
+            return;
+        }
+        
+        try {
+            CHANNEL_FLUSH_METHOD.invoke(channel);
+        } catch (Throwable t) {
+            LOGGER.warning("[NettySupport] Failed to flush channel: " + t.getMessage());
+        }
+    }
+    
+    /**
+     * Checks whether a channel's outbound buffer is below its high water mark.
+     *
+     * @param channel the Netty channel
+     * @return false if the client is not keeping up with what was already written
+     */
+    static boolean isWritable(@NotNull Object channel) {
+        if (!isAvailable()) {
+            return true;
+        }
+        
+        try {
+            return (boolean) CHANNEL_IS_WRITABLE_METHOD.invoke(channel);
+        } catch (Throwable t) {
+            return true;
+        }
+    }
+    
+    /**
+     * Gets the event loop that performs a channel's I/O. It runs its tasks one at a time in
+     * submission order.
+     *
+     * @param channel the Netty channel
+     * @return the event loop, or null if it could not be resolved
+     */
+    @Nullable
+    static Executor getEventLoop(@NotNull Object channel) {
+        if (!isAvailable()) {
+            return null;
+        }
+        
+        try {
+            return (Executor) CHANNEL_EVENT_LOOP_METHOD.invoke(channel);
+        } catch (Throwable t) {
+            LOGGER.warning("[NettySupport] Failed to resolve channel event loop: " + t.getMessage());
+            return null;
+        }
+    }
+}
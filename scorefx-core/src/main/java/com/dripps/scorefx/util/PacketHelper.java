@@ -3,12 +3,20 @@ package com.dripps.scorefx.util;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Team;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -49,6 +57,62 @@ public final class PacketHelper {
     private static final MethodHandle PAPER_ADVENTURE_AS_VANILLA;
     private static final MethodHandle FIXED_FORMAT_CONSTRUCTOR;
     private static final Object BLANK_NUMBER_FORMAT;
+    private static final MethodHandle BUNDLE_PACKET_CONSTRUCTOR; // v2.1.0: Optional, null if unavailable
+    
+    // Exact-typed dispatch chain (v2.1.0) - Called with invokeExact so the JIT can inline it
+    private static final MethodHandle GET_CONNECTION_EXACT; // (Player) -> Object
+    private static final MethodHandle SEND_PACKET_EXACT; // (Object, Object) -> void
+    
+    // Conversion caches (v2.1.0) - Components are immutable, so their NMS forms can be shared
+    private static final int VANILLA_COMPONENT_CACHE_SIZE = 4096;
+    private static final int FIXED_FORMAT_CACHE_SIZE = 1024;
+    private static final BoundedCache<Component, Object> VANILLA_COMPONENTS = new BoundedCache<>(VANILLA_COMPONENT_CACHE_SIZE);
+    private static final BoundedCache<Component, Object> FIXED_FORMATS = new BoundedCache<>(FIXED_FORMAT_CACHE_SIZE);
+    
+    // Team packets (v2.1.0) - Optional, null if unavailable (Bukkit Team API is used instead)
+    private static final MethodHandle PLAYER_TEAM_CONSTRUCTOR;
+    private static final MethodHandle SET_PLAYER_PREFIX_METHOD;
+    private static final MethodHandle SET_PLAYER_SUFFIX_METHOD;
+    private static final MethodHandle TEAM_PACKET_FACTORY;
+    private static final MethodHandle TEAM_GET_PLAYERS_METHOD;
+    private static final MethodHandle TEAM_REMOVE_PACKET_FACTORY;
+    private static final Object DETACHED_SCOREBOARD;
+    
+    // Bukkit team handles (v2.1.0) - Optional, null if unavailable (Bukkit Team API is used instead)
+    private static final MethodHandle CRAFT_TEAM_HANDLE_GETTER; // (Team) -> Object
+    private static final MethodHandle TEAM_PREFIX_SETTER; // (Object, Object) -> void
+    private static final MethodHandle TEAM_SUFFIX_SETTER; // (Object, Object) -> void
+    
+    // Virtual boards (v2.1.0) - Optional, null if unavailable (Bukkit scoreboards are used instead)
+    private static final MethodHandle OBJECTIVE_CONSTRUCTOR;
+    private static final MethodHandle OBJECTIVE_SET_DISPLAY_NAME_METHOD;
+    private static final MethodHandle OBJECTIVE_PACKET_CONSTRUCTOR;
+    private static final MethodHandle DISPLAY_OBJECTIVE_PACKET_CONSTRUCTOR;
+    private static final Object DUMMY_CRITERIA;
+    private static final Object INTEGER_RENDER_TYPE;
+    private static final Object SIDEBAR_DISPLAY_SLOT;
+    
+    // Bukkit objective handles (v2.1.0) - Optional, null if unavailable (Bukkit Objective API is used instead)
+    private static final MethodHandle CRAFT_OBJECTIVE_HANDLE_GETTER; // (Objective) -> Object
+    private static final MethodHandle OBJECTIVE_DISPLAY_NAME_SETTER; // (Object, Object) -> void
+    private static final MethodHandle OBJECTIVE_FORMATTED_NAME_SETTER; // (Object, Object) -> void, null if absent
+    private static final MethodHandle OBJECTIVE_FORMAT_NAME_METHOD; // (Object) -> Object, null if absent
+    
+    // Netty (v2.1.0) - Optional, null if unavailable (packets are encoded and flushed per player)
+    private static final MethodHandle CONNECTION_CHANNEL_GETTER; // (Object) -> Object
+    private static final MethodHandle CONNECTION_SEND_METHOD; // (Object listener, Object packet, boolean flush) -> void
+    private static final Class<?> PACKET_ENCODER_CLASS;
+    private static final MethodHandle ENCODER_PROTOCOL_INFO_GETTER;
+    private static final MethodHandle PROTOCOL_INFO_CODEC_METHOD;
+    private static final MethodHandle STREAM_ENCODER_ENCODE_METHOD;
+    private static final Object BUNDLE_DELIMITER_PACKET;
+    
+    /** Objective packet method: show a new objective. */
+    public static final int OBJECTIVE_ADD = 0;
+    /** Objective packet method: remove an objective and clear its display slot. */
+    public static final int OBJECTIVE_REMOVE = 1;
+    /** Objective packet method: change an objective's display name or format. */
+    public static final int OBJECTIVE_CHANGE = 2;
     
     // Initialization status
     private static final boolean INITIALIZED;
@@ -78,6 +142,37 @@ public final class PacketHelper {
         MethodHandle paperAdventureAsVanilla = null;
         MethodHandle fixedFormatConstructor = null;
         Object blankNumberFormat = null;
+        MethodHandle bundlePacketConstructor = null;
+        MethodHandle getConnectionExact = null;
+        MethodHandle sendPacketExact = null;
+        MethodHandle playerTeamConstructor = null;
+        MethodHandle setPlayerPrefixMethod = null;
+        MethodHandle setPlayerSuffixMethod = null;
+        MethodHandle teamPacketFactory = null;
+        MethodHandle teamGetPlayersMethod = null;
+        MethodHandle teamRemovePacketFactory = null;
+        Object detachedScoreboard = null;
+        MethodHandle craftTeamHandleGetter = null;
+        MethodHandle teamPrefixSetter = null;
+        MethodHandle teamSuffixSetter = null;
+        MethodHandle objectiveConstructor = null;
+        MethodHandle objectiveSetDisplayNameMethod = null;
+        MethodHandle objectivePacketConstructor = null;
+        MethodHandle displayObjectivePacketConstructor = null;
+        Object dummyCriteria = null;
+        Object integerRenderType = null;
+        Object sidebarDisplaySlot = null;
+        MethodHandle craftObjectiveHandleGetter = null;
+        MethodHandle objectiveDisplayNameSetter = null;
+        MethodHandle objectiveFormattedNameSetter = null;
+        MethodHandle objectiveFormatNameMethod = null;
+        MethodHandle connectionChannelGetter = null;
+        MethodHandle connectionSendMethod = null;
+        Class<?> packetEncoderClass = null;
+        MethodHandle encoderProtocolInfoGetter = null;
+        MethodHandle protocolInfoCodecMethod = null;
+        MethodHandle streamEncoderEncodeMethod = null;
+        Object bundleDelimiterPacket = null;
         
         try {
             LOGGER.info("[PacketHelper] Initializing NMS reflection layer for ScoreFX 2.0...");
@@ -148,6 +243,12 @@ public final class PacketHelper {
                 LOGGER.fine("[PacketHelper] Cached PlayerConnection.sendPacket() [legacy]");
             }
             
+            // Step 6b: Adapt the dispatch chain to erased types for invokeExact (v2.1.0)
+            // Player -> CraftPlayer.getHandle() -> .connection, as one handle
+            getConnectionExact = MethodHandles.filterReturnValue(craftPlayerGetHandle, playerConnectionField)
+                .asType(MethodType.methodType(Object.class, Player.class));
+            sendPacketExact = sendPacketMethod.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            
             // Step 7: Cache ClientboundSetScorePacket constructor
             // In Minecraft 1.21+, ClientboundSetScorePacket is a record with specific constructor
             Class<?> setScorePacketClass;
@@ -240,10 +341,294 @@ public final class PacketHelper {
             );
             LOGGER.fine("[PacketHelper] Cached FixedFormat constructor");
             
+            // Step 11b: Cache ClientboundBundlePacket constructor (optional, 1.19.4+)
+            try {
+                Class<?> bundlePacketClass = Class.forName(nmsPackage + ".network.protocol.game.ClientboundBundlePacket");
+                bundlePacketConstructor = lookup.findConstructor(
+                    bundlePacketClass,
+                    MethodType.methodType(void.class, Iterable.class)
+                );
+                LOGGER.fine("[PacketHelper] Cached ClientboundBundlePacket constructor");
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                LOGGER.warning("[PacketHelper] ClientboundBundlePacket not found - board updates are sent unbundled");
+                bundlePacketConstructor = null;
+            }
+            
+            // Step 12: Cache ClientboundSetPlayerTeamPacket handles (optional, v2.1.0)
+            // Packets are built from detached PlayerTeams that belong to a throwaway scoreboard,
+            // whose change callbacks broadcast nothing
+            try {
+                Class<?> scoreboardClass = Class.forName(nmsPackage + ".world.scores.Scoreboard");
+                Class<?> playerTeamClass = Class.forName(nmsPackage + ".world.scores.PlayerTeam");
+                Class<?> teamPacketClass = Class.forName(nmsPackage + ".network.protocol.game.ClientboundSetPlayerTeamPacket");
+                
+                detachedScoreboard = lookup.findConstructor(scoreboardClass, MethodType.methodType(void.class)).invoke();
+                playerTeamConstructor = lookup.findConstructor(
+                    playerTeamClass,
+                    MethodType.methodType(void.class, scoreboardClass, String.class)
+                );
+                setPlayerPrefixMethod = lookup.findVirtual(
+                    playerTeamClass,
+                    "setPlayerPrefix",
+                    MethodType.methodType(void.class, componentClass)
+                );
+                setPlayerSuffixMethod = lookup.findVirtual(
+                    playerTeamClass,
+                    "setPlayerSuffix",
+                    MethodType.methodType(void.class, componentClass)
+                );
+                teamPacketFactory = lookup.findStatic(
+                    teamPacketClass,
+                    "createAddOrModifyPacket",
+                    MethodType.methodType(teamPacketClass, playerTeamClass, boolean.class)
+                );
+                teamGetPlayersMethod = lookup.findVirtual(
+                    playerTeamClass,
+                    "getPlayers",
+                    MethodType.methodType(Collection.class)
+                );
+                teamRemovePacketFactory = lookup.findStatic(
+                    teamPacketClass,
+                    "createRemovePacket",
+                    MethodType.methodType(teamPacketClass, playerTeamClass)
+                );
+                LOGGER.fine("[PacketHelper] Cached ClientboundSetPlayerTeamPacket handles");
+            } catch (Throwable e) {
+                LOGGER.warning("[PacketHelper] ClientboundSetPlayerTeamPacket not available - using the Bukkit Team API for line text");
+                detachedScoreboard = null;
+                playerTeamConstructor = null;
+                setPlayerPrefixMethod = null;
+                setPlayerSuffixMethod = null;
+                teamPacketFactory = null;
+                teamGetPlayersMethod = null;
+                teamRemovePacketFactory = null;
+            }
+            
+            // Step 12b: Cache the handles that write line text onto Bukkit teams (optional, v2.1.0)
+            // The prefix and suffix fields of a CraftTeam's PlayerTeam are set directly,
+            // because PlayerTeam's setters call Scoreboard.onTeamChanged, which broadcasts a
+            // team packet per call; the board sends one packet for both instead
+            if (teamPacketFactory != null) {
+                try {
+                    Class<?> craftTeamClass = Class.forName(craftBukkitPackage + ".scoreboard.CraftTeam");
+                    Class<?> playerTeamClass = Class.forName(nmsPackage + ".world.scores.PlayerTeam");
+                    
+                    Field handleField = findFieldOfType(craftTeamClass, playerTeamClass);
+                    if (handleField == null) {
+                        throw new NoSuchFieldException("PlayerTeam of " + craftTeamClass.getName());
+                    }
+                    Field prefixField = playerTeamClass.getDeclaredField("playerPrefix");
+                    Field suffixField = playerTeamClass.getDeclaredField("playerSuffix");
+                    handleField.setAccessible(true);
+                    prefixField.setAccessible(true);
+                    suffixField.setAccessible(true);
+                    
+                    craftTeamHandleGetter = lookup.unreflectGetter(handleField)
+                        .asType(MethodType.methodType(Object.class, Team.class));
+                    teamPrefixSetter = lookup.unreflectSetter(prefixField)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    teamSuffixSetter = lookup.unreflectSetter(suffixField)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    LOGGER.fine("[PacketHelper] Cached PlayerTeam prefix/suffix fields");
+                } catch (Throwable e) {
+                    LOGGER.warning("[PacketHelper] PlayerTeam fields not available - team boards set line text through the Bukkit Team API");
+                    craftTeamHandleGetter = null;
+                    teamPrefixSetter = null;
+                    teamSuffixSetter = null;
+                }
+            }
+            
+            // Step 13: Cache objective and display slot packet handles (optional, v2.1.0)
+            // Virtual boards send their objective as packets built from a detached NMS Objective
+            if (detachedScoreboard != null) {
+                try {
+                    Class<?> scoreboardClass = Class.forName(nmsPackage + ".world.scores.Scoreboard");
+                    Class<?> objectiveClass = Class.forName(nmsPackage + ".world.scores.Objective");
+                    Class<?> criteriaClass = Class.forName(nmsPackage + ".world.scores.criteria.ObjectiveCriteria");
+                    Class<?> renderTypeClass = Class.forName(nmsPackage + ".world.scores.criteria.ObjectiveCriteria$RenderType");
+                    Class<?> displaySlotClass = Class.forName(nmsPackage + ".world.scores.DisplaySlot");
+                    Class<?> objectivePacketClass = Class.forName(nmsPackage + ".network.protocol.game.ClientboundSetObjectivePacket");
+                    Class<?> displayObjectivePacketClass = Class.forName(nmsPackage + ".network.protocol.game.ClientboundSetDisplayObjectivePacket");
+                    
+                    // Objective(Scoreboard, String, ObjectiveCriteria, Component, RenderType, boolean displayAutoUpdate, NumberFormat)
+                    objectiveConstructor = lookup.findConstructor(
+                        objectiveClass,
+                        MethodType.methodType(void.class, scoreboardClass, String.class, criteriaClass, componentClass,
+                            renderTypeClass, boolean.class, numberFormatClass)
+                    );
+                    objectiveSetDisplayNameMethod = lookup.findVirtual(
+                        objectiveClass,
+                        "setDisplayName",
+                        MethodType.methodType(void.class, componentClass)
+                    );
+                    objectivePacketConstructor = lookup.findConstructor(
+                        objectivePacketClass,
+                        MethodType.methodType(void.class, objectiveClass, int.class)
+                    );
+                    displayObjectivePacketConstructor = lookup.findConstructor(
+                        displayObjectivePacketClass,
+                        MethodType.methodType(void.class, displaySlotClass, objectiveClass)
+                    );
+                    dummyCriteria = lookup.findStaticGetter(criteriaClass, "DUMMY", criteriaClass).invoke();
+                    integerRenderType = lookup.findStaticGetter(renderTypeClass, "INTEGER", renderTypeClass).invoke();
+                    sidebarDisplaySlot = lookup.findStaticGetter(displaySlotClass, "SIDEBAR", displaySlotClass).invoke();
+                    LOGGER.fine("[PacketHelper] Cached objective packet handles");
+                } catch (Throwable e) {
+                    LOGGER.warning("[PacketHelper] Objective packets not available - virtual boards are disabled");
+                    objectiveConstructor = null;
+                    objectiveSetDisplayNameMethod = null;
+                    objectivePacketConstructor = null;
+                    displayObjectivePacketConstructor = null;
+                    dummyCriteria = null;
+                    integerRenderType = null;
+                    sidebarDisplaySlot = null;
+                }
+            }
+            
+            // Step 13b: Cache the handles that write the title onto Bukkit objectives (optional, v2.1.0)
+            // Like the team fields of step 12b: Objective.setDisplayName calls
+            // Scoreboard.onObjectiveChanged, which broadcasts, so the field is set directly
+            // and the board sends the objective packet with the rest of its commit
+            if (objectivePacketConstructor != null) {
+                try {
+                    Class<?> craftObjectiveClass = Class.forName(craftBukkitPackage + ".scoreboard.CraftObjective");
+                    Class<?> objectiveClass = Class.forName(nmsPackage + ".world.scores.Objective");
+                    
+                    Field handleField = findFieldOfType(craftObjectiveClass, objectiveClass);
+                    if (handleField == null) {
+                        throw new NoSuchFieldException("Objective of " + craftObjectiveClass.getName());
+                    }
+                    Field displayNameField = objectiveClass.getDeclaredField("displayName");
+                    handleField.setAccessible(true);
+                    displayNameField.setAccessible(true);
+                    
+                    craftObjectiveHandleGetter = lookup.unreflectGetter(handleField)
+                        .asType(MethodType.methodType(Object.class, Objective.class));
+                    objectiveDisplayNameSetter = lookup.unreflectSetter(displayNameField)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    
+                    // The hoverable name shown by /scoreboard, derived from the display name
+                    try {
+                        Field formattedField = objectiveClass.getDeclaredField("formattedDisplayName");
+                        Method createFormatted = objectiveClass.getDeclaredMethod("createFormattedDisplayName");
+                        formattedField.setAccessible(true);
+                        createFormatted.setAccessible(true);
+                        objectiveFormattedNameSetter = lookup.unreflectSetter(formattedField)
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                        objectiveFormatNameMethod = lookup.unreflect(createFormatted)
+                            .asType(MethodType.methodType(Object.class, Object.class));
+                    } catch (NoSuchFieldException | NoSuchMethodException e) {
+                        objectiveFormattedNameSetter = null;
+                        objectiveFormatNameMethod = null;
+                    }
+                    LOGGER.fine("[PacketHelper] Cached Objective display name field");
+                } catch (Throwable e) {
+                    LOGGER.warning("[PacketHelper] Objective fields not available - team boards set the title through the Bukkit Objective API");
+                    craftObjectiveHandleGetter = null;
+                    objectiveDisplayNameSetter = null;
+                    objectiveFormattedNameSetter = null;
+                    objectiveFormatNameMethod = null;
+                }
+            }
+            
+            // Step 14: Cache the Netty channel getter (optional, v2.1.0)
+            // Listener -> its network connection -> the connection's Netty channel,
+            // found by type since the field names differ between mappings. Writing to the
+            // channel is done through NettySupport
+            try {
+                Class<?> channelClass = Class.forName("io.netty.channel.Channel");
+                
+                MethodHandle networkManagerGetter = null;
+                MethodHandle channelGetter = null;
+                Class<?> networkManagerClass = null;
+                for (Class<?> c = playerConnectionClass; c != null && channelGetter == null; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        Field channelField = findFieldOfType(field.getType(), channelClass);
+                        if (channelField != null) {
+                            field.setAccessible(true);
+                            channelField.setAccessible(true);
+                            networkManagerClass = field.getType();
+                            networkManagerGetter = lookup.unreflectGetter(field);
+                            channelGetter = lookup.unreflectGetter(channelField);
+                            break;
+                        }
+                    }
+                }
+                if (channelGetter == null) {
+                    throw new NoSuchFieldException("Netty channel of " + playerConnectionClass.getName());
+                }
+                connectionChannelGetter = MethodHandles.filterReturnValue(networkManagerGetter, channelGetter)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+                
+                // Connection.send(Packet, listener, boolean flush), whose listener type
+                // differs between versions; called with no listener and flush = false
+                for (Method method : networkManagerClass.getMethods()) {
+                    Class<?>[] params = method.getParameterTypes();
+                    if (method.getName().equals("send") && params.length == 3
+                        && params[0].isAssignableFrom(packetClass) && params[2] == boolean.class) {
+                        MethodHandle send = MethodHandles.insertArguments(lookup.unreflect(method), 2, (Object) null);
+                        connectionSendMethod = MethodHandles.filterArguments(send, 0, networkManagerGetter)
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class, boolean.class));
+                        break;
+                    }
+                }
+                if (connectionSendMethod == null) {
+                    LOGGER.fine("[PacketHelper] Connection.send(Packet, listener, boolean) not found - every packet is flushed");
+                }
+                LOGGER.fine("[PacketHelper] Cached Netty channel handles");
+            } catch (Throwable e) {
+                LOGGER.fine("[PacketHelper] Netty channel not available - packets go through the connection only");
+                connectionChannelGetter = null;
+                connectionSendMethod = null;
+            }
+            
+            // Step 15: Cache the packet codec handles for shared encoding (optional, v2.1.0)
+            // A packet shown to many players is encoded once with the play codec of one
+            // connection; every channel then gets a retained duplicate of the bytes, which
+            // its pipeline compresses, frames and encrypts like any other packet
+            if (connectionChannelGetter != null && NettySupport.isAvailable()) {
+                try {
+                    Class<?> protocolInfoClass = Class.forName(nmsPackage + ".network.ProtocolInfo");
+                    Class<?> streamCodecClass = Class.forName(nmsPackage + ".network.codec.StreamCodec");
+                    Class<?> streamEncoderClass = Class.forName(nmsPackage + ".network.codec.StreamEncoder");
+                    packetEncoderClass = Class.forName(nmsPackage + ".network.PacketEncoder");
+                    
+                    Field protocolInfoField = findFieldOfType(packetEncoderClass, protocolInfoClass);
+                    if (protocolInfoField == null) {
+                        throw new NoSuchFieldException("ProtocolInfo of " + packetEncoderClass.getName());
+                    }
+                    protocolInfoField.setAccessible(true);
+                    encoderProtocolInfoGetter = lookup.unreflectGetter(protocolInfoField);
+                    protocolInfoCodecMethod = lookup.findVirtual(protocolInfoClass, "codec", MethodType.methodType(streamCodecClass));
+                    streamEncoderEncodeMethod = lookup.findVirtual(
+                        streamEncoderClass,
+                        "encode",
+                        MethodType.methodType(void.class, Object.class, Object.class)
+                    );
+                    
+                    // Encoded packets cannot go into a ClientboundBundlePacket; bundles of them
+                    // are framed with delimiter packets instead
+                    try {
+                        Class<?> bundleDelimiterClass = Class.forName(nmsPackage + ".network.protocol.game.ClientboundBundleDelimiterPacket");
+                        bundleDelimiterPacket = lookup.findConstructor(bundleDelimiterClass, MethodType.methodType(void.class)).invoke();
+                    } catch (Throwable e) {
+                        bundleDelimiterPacket = null;
+                    }
+                    LOGGER.fine("[PacketHelper] Cached packet codec handles for shared encoding");
+                } catch (Throwable e) {
+                    LOGGER.fine("[PacketHelper] Packet codec not available - packets are encoded per player");
+                    packetEncoderClass = null;
+                    encoderProtocolInfoGetter = null;
+                    protocolInfoCodecMethod = null;
+                    streamEncoderEncodeMethod = null;
+                    bundleDelimiterPacket = null;
+                }
+            }
+            
             // Initialization successful!
             success = true;
             LOGGER.info("[PacketHelper] ✓ NMS reflection layer initialized successfully");
-            
+        
         } catch (Throwable t) {
             error = t;
             LOGGER.severe("[PacketHelper] ✗ Failed to initialize NMS reflection layer: " + t.getMessage());
@@ -262,10 +647,61 @@ public final class PacketHelper {
         PAPER_ADVENTURE_AS_VANILLA = paperAdventureAsVanilla;
         FIXED_FORMAT_CONSTRUCTOR = fixedFormatConstructor;
         BLANK_NUMBER_FORMAT = blankNumberFormat;
+        BUNDLE_PACKET_CONSTRUCTOR = bundlePacketConstructor;
+        GET_CONNECTION_EXACT = getConnectionExact;
+        SEND_PACKET_EXACT = sendPacketExact;
+        PLAYER_TEAM_CONSTRUCTOR = playerTeamConstructor;
+        SET_PLAYER_PREFIX_METHOD = setPlayerPrefixMethod;
+        SET_PLAYER_SUFFIX_METHOD = setPlayerSuffixMethod;
+        TEAM_PACKET_FACTORY = teamPacketFactory;
+        TEAM_GET_PLAYERS_METHOD = teamGetPlayersMethod;
+        TEAM_REMOVE_PACKET_FACTORY = teamRemovePacketFactory;
+        DETACHED_SCOREBOARD = detachedScoreboard;
+        CRAFT_TEAM_HANDLE_GETTER = craftTeamHandleGetter;
+        TEAM_PREFIX_SETTER = teamPrefixSetter;
+        TEAM_SUFFIX_SETTER = teamSuffixSetter;
+        OBJECTIVE_CONSTRUCTOR = objectiveConstructor;
+        OBJECTIVE_SET_DISPLAY_NAME_METHOD = objectiveSetDisplayNameMethod;
+        OBJECTIVE_PACKET_CONSTRUCTOR = objectivePacketConstructor;
+        DISPLAY_OBJECTIVE_PACKET_CONSTRUCTOR = displayObjectivePacketConstructor;
+        DUMMY_CRITERIA = dummyCriteria;
+        INTEGER_RENDER_TYPE = integerRenderType;
+        SIDEBAR_DISPLAY_SLOT = sidebarDisplaySlot;
+        CRAFT_OBJECTIVE_HANDLE_GETTER = craftObjectiveHandleGetter;
+        OBJECTIVE_DISPLAY_NAME_SETTER = objectiveDisplayNameSetter;
+        OBJECTIVE_FORMATTED_NAME_SETTER = objectiveFormattedNameSetter;
+        OBJECTIVE_FORMAT_NAME_METHOD = objectiveFormatNameMethod;
+        CONNECTION_CHANNEL_GETTER = connectionChannelGetter;
+        CONNECTION_SEND_METHOD = connectionSendMethod;
+        PACKET_ENCODER_CLASS = packetEncoderClass;
+        ENCODER_PROTOCOL_INFO_GETTER = encoderProtocolInfoGetter;
+        PROTOCOL_INFO_CODEC_METHOD = protocolInfoCodecMethod;
+        STREAM_ENCODER_ENCODE_METHOD = streamEncoderEncodeMethod;
+        BUNDLE_DELIMITER_PACKET = bundleDelimiterPacket;
         INITIALIZED = success;
         INIT_ERROR = error;
     }
     
+    /**
+     * Finds the first field declared by a class whose type is the given type or a subtype.
+     *
+     * @param owner the class to search
+     * @param type the field type
+     * @return the field, or null if there is none
+     */
+    @Nullable
+    private static Field findFieldOfType(@NotNull Class<?> owner, @NotNull Class<?> type) {
+        if (owner.isPrimitive() || owner.isArray()) {
+            return null;
+        }
+        for (Field field : owner.getDeclaredFields()) {
+            if (type.isAssignableFrom(field.getType()) && !Modifier.isStatic(field.getModifiers())) {
+                return field;
+            }
+        }
+        return null;
+    }
+    
     /**
      * Private constructor - this is a utility class with only static methods.
      */
@@ -313,46 +749,842 @@ public final class PacketHelper {
         @NotNull String lineIdentifier,
         int score,
         @Nullable Component customScore
+    ) {
+        Object packet = createScorePacket(objectiveName, lineIdentifier, score, customScore);
+        if (packet != null) {
+            sendPacket(player, packet);
+        }
+    }
+    
+    /**
+     * Builds a ClientboundSetScorePacket without sending it.
+     * <p>
+     * Building the packet includes the Adventure-to-vanilla conversion of the custom score,
+     * which is the expensive part of a score update. It touches no player or world state, so
+     * it may run off the main thread (v2.1.0: used by the parallel render phase).
+     * </p>
+     *
+     * @param objectiveName the scoreboard objective name
+     * @param lineIdentifier the unique identifier for this score line (entry name)
+     * @param score the integer score value (typically the row number)
+     * @param customScore optional custom score component (null = BLANK/hidden)
+     * @return the NMS packet, or null if it could not be built (the error is logged)
+     * @throws IllegalStateException if PacketHelper is not initialized
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createScorePacket(
+        @NotNull String objectiveName,
+        @NotNull String lineIdentifier,
+        int score,
+        @Nullable Component customScore
+    ) {
+        return createScorePacket(objectiveName, lineIdentifier, score, customScore, false);
+    }
+    
+    /**
+     * Builds a ClientboundSetScorePacket without sending it, optionally relying on the
+     * objective's own number format.
+     * <p>
+     * If the objective already displays blank scores (see {@code Objective#numberFormat}), a
+     * score without a custom score carries no number format at all and inherits the
+     * objective's. This also clears a custom score the client showed before.
+     * </p>
+     *
+     * @param objectiveName the scoreboard objective name
+     * @param lineIdentifier the unique identifier for this score line (entry name)
+     * @param score the integer score value (typically the row number)
+     * @param customScore optional custom score component (null = BLANK/hidden)
+     * @param objectiveFormatBlank true if the objective's number format is blank
+     * @return the NMS packet, or null if it could not be built (the error is logged)
+     * @throws IllegalStateException if PacketHelper is not initialized
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createScorePacket(
+        @NotNull String objectiveName,
+        @NotNull String lineIdentifier,
+        int score,
+        @Nullable Component customScore,
+        boolean objectiveFormatBlank
+    ) {
+        return createScorePacket(objectiveName, lineIdentifier, score, null, customScore, objectiveFormatBlank);
+    }
+    
+    /**
+     * Builds a ClientboundSetScorePacket without sending it, optionally with a display
+     * component that the client shows instead of the score holder's name (1.20.3+).
+     * <p>
+     * A packet always replaces both the display component and the number format, so the
+     * display must be passed again whenever the custom score changes.
+     * </p>
+     *
+     * @param objectiveName the scoreboard objective name
+     * @param lineIdentifier the unique identifier for this score line (entry name)
+     * @param score the integer score value (typically the row number)
+     * @param display the text shown for the score holder, or null to show its name
+     * @param customScore optional custom score component (null = BLANK/hidden)
+     * @param objectiveFormatBlank true if the objective's number format is blank
+     * @return the NMS packet, or null if it could not be built (the error is logged)
+     * @throws IllegalStateException if PacketHelper is not initialized
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createScorePacket(
+        @NotNull String objectiveName,
+        @NotNull String lineIdentifier,
+        int score,
+        @Nullable Component display,
+        @Nullable Component customScore,
+        boolean objectiveFormatBlank
     ) {
         if (!INITIALIZED) {
             throw new IllegalStateException("PacketHelper is not initialized - cannot send score packets");
         }
         
         try {
-            // Step 1: Determine the number format (BLANK or FixedFormat)
-            Object numberFormat;
+            // Step 1: Determine the number format (BLANK, FixedFormat or the objective's)
+            Optional<Object> numberFormat;
             if (customScore != null && !customScore.equals(Component.empty())) {
                 // Custom score provided - create a FixedFormat with the Component
-                Object nmsComponent = PAPER_ADVENTURE_AS_VANILLA.invoke(customScore);
-                numberFormat = FIXED_FORMAT_CONSTRUCTOR.invoke(nmsComponent);
+                numberFormat = Optional.of(toFixedFormat(customScore));
+            } else if (objectiveFormatBlank) {
+                // v2.1.0: No custom score - inherit the objective's BLANK format
+                numberFormat = Optional.empty();
             } else {
                 // No custom score - use BLANK format (hidden)
-                numberFormat = BLANK_NUMBER_FORMAT;
+                numberFormat = Optional.of(BLANK_NUMBER_FORMAT);
             }
             
+            // v2.1.0: The display component replaces the score holder's name on the client
+            Optional<Object> nmsDisplay = display != null
+                ? Optional.of(toVanilla(display))
+                : Optional.empty();
+            
             // Step 2: Create the ClientboundSetScorePacket
             // Constructor signature in 1.21.8+: (String holder, String objectiveName, int score, Optional<Component> display, Optional<NumberFormat> numberFormat)
             // Note: First param is the HOLDER (entry/line identifier), second is OBJECTIVE NAME
             // The display and numberFormat are wrapped in Optional
-            Object packet = SET_SCORE_PACKET_CONSTRUCTOR.invoke(
+            return SET_SCORE_PACKET_CONSTRUCTOR.invoke(
                 lineIdentifier,              // holder (the score entry identifier)
                 objectiveName,               // objectiveName (the objective this score belongs to)
                 score,                       // score (the integer value)
-                Optional.empty(),            // display (Optional<Component> - empty, we use team prefix/suffix)
-                Optional.of(numberFormat)    // numberFormat (Optional<NumberFormat> - our BLANK or FixedFormat)
+                nmsDisplay,                  // display (Optional<Component> - empty when teams carry the text)
+                numberFormat                 // numberFormat (Optional<NumberFormat> - BLANK, FixedFormat or empty)
             );
+        
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to build score packet: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Converts an Adventure component to its NMS form, reusing earlier conversions.
+     *
+     * @param component the component to convert
+     * @return the NMS component
+     */
+    @NotNull
+    private static Object toVanilla(@NotNull Component component) {
+        return VANILLA_COMPONENTS.get(component, c -> {
+            try {
+                return PAPER_ADVENTURE_AS_VANILLA.invoke(c);
+            } catch (Throwable t) {
+                throw new IllegalStateException("PaperAdventure.asVanilla failed", t);
+            }
+        });
+    }
+    
+    /**
+     * Creates the FixedFormat that shows a custom score, reusing earlier ones.
+     *
+     * @param customScore the custom score component
+     * @return the NMS FixedFormat
+     */
+    @NotNull
+    private static Object toFixedFormat(@NotNull Component customScore) {
+        return FIXED_FORMATS.get(customScore, c -> {
+            try {
+                return FIXED_FORMAT_CONSTRUCTOR.invoke(toVanilla(c));
+            } catch (Throwable t) {
+                throw new IllegalStateException("FixedFormat could not be created", t);
+            }
+        });
+    }
+    
+    /**
+     * Keeps the NMS form of a component cached until {@link #unpinComponent} is called.
+     * <p>
+     * Used for heavy hitters such as the frames of a shared animation, which are converted
+     * again and again but could be evicted by a burst of one-off components in between.
+     * </p>
+     *
+     * @param component the component to pin
+     * @since 2.1.0
+     */
+    public static void pinComponent(@NotNull Component component) {
+        VANILLA_COMPONENTS.pin(component);
+    }
+    
+    /**
+     * Lets a component pinned with {@link #pinComponent} be evicted again.
+     *
+     * @param component the component to unpin
+     * @since 2.1.0
+     */
+    public static void unpinComponent(@NotNull Component component) {
+        VANILLA_COMPONENTS.unpin(component);
+    }
+    
+    /**
+     * Checks whether packets can be encoded once and written to many players' channels.
+     *
+     * @return true if {@link #encodePacket} is available
+     * @since 2.1.0
+     */
+    public static boolean isSharedEncodingSupported() {
+        return INITIALIZED && STREAM_ENCODER_ENCODE_METHOD != null;
+    }
+    
+    /**
+     * Encodes a packet once, so it can be written to many players without encoding it again.
+     * <p>
+     * The packet is encoded with the play codec of the reference player's connection. Text
+     * is encoded as that player sees it, so only packets that are identical for every
+     * player (including their language) should be shared. The bytes live in an unpooled heap
+     * buffer that the garbage collector frees once the {@link EncodedPacket} is unreachable.
+     * </p>
+     *
+     * @param reference a sender for any player in the play state
+     * @param packet a packet built by this class
+     * @return the encoded packet, or null if shared encoding is unavailable or failed
+     * @since 2.1.0
+     */
+    @Nullable
+    public static EncodedPacket encodePacket(@NotNull PacketSender reference, @NotNull Object packet) {
+        if (!isSharedEncodingSupported()) {
+            return null;
+        }
+        
+        Object channel = reference.getChannel();
+        if (channel == null) {
+            return null;
+        }
+        
+        try {
+            return encodePacket(channel, packet, NMS_ENCODER_CODEC);
+        } catch (Throwable t) {
+            LOGGER.warning("[PacketHelper] Failed to encode shared packet, sending it per player: " + t.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Encodes a packet with the codec of a channel's {@code "encoder"} handler.
+     *
+     * @param channel the Netty channel whose encoder is used
+     * @param packet the packet to encode
+     * @param access reads the codec from the encoder and runs it
+     * @return the encoded packet, or null if the channel's encoder has no usable codec
+     * @throws Throwable if the channel is not a Netty channel or encoding failed
+     */
+    @Nullable
+    static EncodedPacket encodePacket(@NotNull Object channel, @NotNull Object packet, @NotNull EncoderCodec access) throws Throwable {
+        Object codec = access.getCodec(NettySupport.getHandler(channel, "encoder"));
+        if (codec == null) {
+            return null; // Not in the play state, or replaced by another plugin
+        }
+        
+        Object buffer = NettySupport.newBuffer();
+        access.encode(codec, buffer, packet);
+        return new EncodedPacket(packet, buffer);
+    }
+    
+    /**
+     * Access to the codec a channel's encoder handler writes packets with.
+     *
+     * @since 2.1.0
+     */
+    interface EncoderCodec {
+    
+        /**
+         * Gets the codec of an encoder handler.
+         *
+         * @param encoder the channel's {@code "encoder"} handler, or null if it has none
+         * @return the codec, or null if the handler is not a packet encoder with one
+         * @throws Throwable if the codec could not be read
+         */
+        @Nullable
+        Object getCodec(@Nullable Object encoder) throws Throwable;
+        
+        /**
+         * Encodes a packet into a buffer, as the encoder itself would.
+         *
+         * @param codec a codec returned by {@link #getCodec}
+         * @param buffer the ByteBuf to write to
+         * @param packet the packet
+         * @throws Throwable if encoding failed
+         */
+        void encode(@NotNull Object codec, @NotNull Object buffer, @NotNull Object packet) throws Throwable;
+    }
+    
+    /** The server's PacketEncoder: its ProtocolInfo's codec, a StreamEncoder of packets. */
+    private static final EncoderCodec NMS_ENCODER_CODEC = new EncoderCodec() {
+        @Override
+        public Object getCodec(Object encoder) throws Throwable {
+            if (!PACKET_ENCODER_CLASS.isInstance(encoder)) {
+                return null;
+            }
+            return PROTOCOL_INFO_CODEC_METHOD.invoke(ENCODER_PROTOCOL_INFO_GETTER.invoke(encoder));
+        }
+        
+        @Override
+        public void encode(Object codec, Object buffer, Object packet) throws Throwable {
+            STREAM_ENCODER_ENCODE_METHOD.invoke(codec, buffer, packet);
+        }
+    };
+    
+    /**
+     * Resolves the Netty channel of a connection resolved by {@link #createSender}.
+     *
+     * @param connection the NMS connection
+     * @return the channel, or null if shared encoding is unavailable
+     */
+    @Nullable
+    static Object getChannel(@NotNull Object connection) {
+        if (CONNECTION_CHANNEL_GETTER == null) {
+            return null;
+        }
+        
+        try {
+            return (Object) CONNECTION_CHANNEL_GETTER.invokeExact(connection);
+        } catch (Throwable t) {
+            LOGGER.warning("[PacketHelper] Failed to resolve Netty channel: " + t.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Checks whether packets can be written without flushing, so a board's packets of one
+     * tick reach the socket with a single flush.
+     *
+     * @return true if batched flushing is available
+     * @since 2.1.0
+     */
+    public static boolean isBatchedFlushSupported() {
+        return INITIALIZED && CONNECTION_SEND_METHOD != null && NettySupport.isAvailable();
+    }
+    
+    /**
+     * Checks whether packet batches can be handed to each player's Netty event loop.
+     *
+     * @return true if {@link PacketSender#dispatchAll} is available
+     * @since 2.1.0
+     */
+    public static boolean isEventLoopDispatchSupported() {
+        return INITIALIZED && CONNECTION_CHANNEL_GETTER != null && NettySupport.isAvailable();
+    }
+    
+    /**
+     * Returns the packet that starts and ends a bundle written packet by packet.
+     *
+     * @return the ClientboundBundleDelimiterPacket, or null if unavailable
+     */
+    @Nullable
+    static Object getBundleDelimiterPacket() {
+        return BUNDLE_DELIMITER_PACKET;
+    }
+    
+    /**
+     * Sends a prebuilt NMS packet to the player's connection.
+     *
+     * @param player the player to send the packet to
+     * @param packet a packet built by this class
+     * @throws IllegalStateException if PacketHelper is not initialized
+     * @since 2.1.0
+     */
+    public static void sendPacket(@NotNull Player player, @NotNull Object packet) {
+        if (!INITIALIZED) {
+            throw new IllegalStateException("PacketHelper is not initialized - cannot send packets");
+        }
+        
+        PacketSender sender = createSender(player);
+        if (sender != null) {
+            sender.send(packet);
+        }
+    }
+    
+    /**
+     * Resolves a player's connection once and wraps it in a {@link PacketSender}.
+     * <p>
+     * Boards keep the sender for as long as the connection is valid, so sending a packet
+     * no longer looks up the player's handle and connection each time.
+     * </p>
+     *
+     * @param player the player whose connection to use
+     * @return the sender, or null if the connection could not be resolved (the error is logged)
+     * @throws IllegalStateException if PacketHelper is not initialized
+     * @since 2.1.0
+     */
+    @Nullable
+    public static PacketSender createSender(@NotNull Player player) {
+        if (!INITIALIZED) {
+            throw new IllegalStateException("PacketHelper is not initialized - cannot send packets");
+        }
+        
+        try {
+            Object connection = (Object) GET_CONNECTION_EXACT.invokeExact(player);
+            return connection != null ? new PacketSender(connection) : null;
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to resolve player connection: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Sends a packet to a connection resolved by {@link #createSender}.
+     *
+     * @param connection the NMS connection
+     * @param packet a packet built by this class
+     */
+    static void sendToConnection(@NotNull Object connection, @NotNull Object packet) {
+        sendToConnection(connection, packet, true);
+    }
+    
+    /**
+     * Sends a packet to a connection resolved by {@link #createSender}, optionally without
+     * flushing the channel.
+     *
+     * @param connection the NMS connection
+     * @param packet a packet built by this class
+     * @param flush false to leave the packet in the channel until the next flush; ignored
+     *              if batched flushing is not supported
+     */
+    static void sendToConnection(@NotNull Object connection, @NotNull Object packet, boolean flush) {
+        try {
+            if (!flush && CONNECTION_SEND_METHOD != null) {
+                CONNECTION_SEND_METHOD.invokeExact(connection, packet, false);
+            } else {
+                SEND_PACKET_EXACT.invokeExact(connection, packet);
+            }
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to send packet: " + t.getMessage());
+            t.printStackTrace();
+        }
+    }
+    
+    /**
+     * Checks whether line text can be sent as a single team packet.
+     *
+     * @return true if {@link #createPacketTeam} and {@link #createTeamPacket} are available
+     * @since 2.1.0
+     */
+    public static boolean isTeamPacketSupported() {
+        return INITIALIZED && TEAM_PACKET_FACTORY != null;
+    }
+    
+    /**
+     * Creates a detached NMS team used to build team packets for one scoreboard team.
+     * <p>
+     * The team belongs to a throwaway scoreboard, so changing it sends nothing. It keeps
+     * the vanilla prefix and suffix it was last given, which lets {@link #createTeamPacket}
+     * convert only the half that changed. Its entry is only sent by
+     * {@link #createTeamAddPacket}.
+     * </p>
+     *
+     * @param teamName the name of the client-side team the packets update
+     * @param entry the score holder that belongs to the team
+     * @return the detached team, or null if team packets are not supported (the error is logged)
+     * @since 2.1.0
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static Object createPacketTeam(@NotNull String teamName, @NotNull String entry) {
+        if (!isTeamPacketSupported()) {
+            return null;
+        }
+        
+        try {
+            Object team = PLAYER_TEAM_CONSTRUCTOR.invoke(DETACHED_SCOREBOARD, teamName);
+            // Added to the team's own player set; the detached scoreboard keeps no record of it
+            ((Collection<String>) TEAM_GET_PLAYERS_METHOD.invoke(team)).add(entry);
+            return team;
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to create packet team: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Builds one ClientboundSetPlayerTeamPacket that updates a team's prefix and suffix.
+     * <p>
+     * A single packet replaces the two packets the Bukkit Team API broadcasts for a prefix
+     * and a suffix change. Only the halves passed as non-null are converted and changed on
+     * the detached team; the other half is sent as it was last set. Like
+     * {@link #createScorePacket} this touches no player or world state, so it may run off the
+     * main thread as long as each detached team is only used by one thread at a time.
+     * </p>
+     *
+     * @param packetTeam a team returned by {@link #createPacketTeam}
+     * @param prefix the new prefix, or null to keep the current one
+     * @param suffix the new suffix, or null to keep the current one
+     * @return the NMS packet, or null if it could not be built (the error is logged)
+     * @throws IllegalStateException if team packets are not supported
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createTeamPacket(
+        @NotNull Object packetTeam,
+        @Nullable Component prefix,
+        @Nullable Component suffix
+    ) {
+        if (!isTeamPacketSupported()) {
+            throw new IllegalStateException("PacketHelper cannot build team packets on this server");
+        }
+        
+        try {
+            if (prefix != null) {
+                SET_PLAYER_PREFIX_METHOD.invoke(packetTeam, toVanilla(prefix));
+            }
+            if (suffix != null) {
+                SET_PLAYER_SUFFIX_METHOD.invoke(packetTeam, toVanilla(suffix));
+            }
             
-            // Step 3: Get the player's connection
-            Object craftPlayer = player;  // CraftPlayer
-            Object entityPlayer = CRAFT_PLAYER_GET_HANDLE.invoke(craftPlayer);
-            Object playerConnection = PLAYER_CONNECTION_FIELD.invoke(entityPlayer);
-            
-            // Step 4: Send the packet
-            SEND_PACKET_METHOD.invoke(playerConnection, packet);
-            
+            // false = modify the existing team instead of creating it
+            return TEAM_PACKET_FACTORY.invoke(packetTeam, false);
+        
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to build team packet: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Builds a ClientboundSetPlayerTeamPacket that creates a team with its prefix, suffix and
+     * entry on the client.
+     *
+     * @param packetTeam a team returned by {@link #createPacketTeam}
+     * @return the NMS packet, or null if it could not be built (the error is logged)
+     * @throws IllegalStateException if team packets are not supported
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createTeamAddPacket(@NotNull Object packetTeam) {
+        if (!isTeamPacketSupported()) {
+            throw new IllegalStateException("PacketHelper cannot build team packets on this server");
+        }
+        
+        try {
+            return TEAM_PACKET_FACTORY.invoke(packetTeam, true);
         } catch (Throwable t) {
-            LOGGER.severe("[PacketHelper] Failed to send score packet: " + t.getMessage());
+            LOGGER.severe("[PacketHelper] Failed to build team add packet: " + t.getMessage());
             t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Builds a ClientboundSetPlayerTeamPacket that removes a team from the client.
+     *
+     * @param packetTeam a team returned by {@link #createPacketTeam}
+     * @return the NMS packet, or null if it could not be built (the error is logged)
+     * @throws IllegalStateException if team packets are not supported
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createTeamRemovePacket(@NotNull Object packetTeam) {
+        if (!isTeamPacketSupported()) {
+            throw new IllegalStateException("PacketHelper cannot build team packets on this server");
+        }
+        
+        try {
+            return TEAM_REMOVE_PACKET_FACTORY.invoke(packetTeam);
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to build team remove packet: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Checks whether a Bukkit team's line text can be set without the server broadcasting it.
+     *
+     * @return true if {@link #getTeamHandle} and {@link #setTeamText} are available
+     * @since 2.1.0
+     */
+    public static boolean isTeamHandleSupported() {
+        return isTeamPacketSupported() && CRAFT_TEAM_HANDLE_GETTER != null;
+    }
+    
+    /**
+     * Gets the NMS team behind a Bukkit team, for {@link #setTeamText}.
+     *
+     * @param team a team of a server-side scoreboard
+     * @return the NMS team, or null if team handles are not supported (the error is logged)
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object getTeamHandle(@NotNull Team team) {
+        if (!isTeamHandleSupported()) {
+            return null;
+        }
+        
+        try {
+            return (Object) CRAFT_TEAM_HANDLE_GETTER.invokeExact(team);
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to get team handle: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Sets the prefix and suffix of a server-side team without sending anything.
+     * <p>
+     * The Bukkit Team API broadcasts a team packet for every prefix or suffix change. A
+     * board that sends the text itself as one {@link #createTeamPacket team packet} uses
+     * this instead, so the team still holds what the client shows when the server sends
+     * the scoreboard again. Must run on the thread that owns the scoreboard.
+     * </p>
+     *
+     * @param teamHandle a team returned by {@link #getTeamHandle}
+     * @param prefix the new prefix
+     * @param suffix the new suffix
+     * @return true if both were set, false if it failed (the error is logged)
+     * @throws IllegalStateException if team handles are not supported
+     * @since 2.1.0
+     */
+    public static boolean setTeamText(@NotNull Object teamHandle, @NotNull Component prefix, @NotNull Component suffix) {
+        if (!isTeamHandleSupported()) {
+            throw new IllegalStateException("PacketHelper cannot set team text on this server");
+        }
+        
+        try {
+            TEAM_PREFIX_SETTER.invokeExact(teamHandle, toVanilla(prefix));
+            TEAM_SUFFIX_SETTER.invokeExact(teamHandle, toVanilla(suffix));
+            return true;
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to set team text: " + t.getMessage());
+            t.printStackTrace();
+            return false;
+        }
+    }
+    
+    /**
+     * Checks whether boards can be sent purely as packets, without a Bukkit scoreboard.
+     *
+     * @return true if objective, display slot and team packets can all be built
+     * @since 2.1.0
+     */
+    public static boolean isVirtualBoardSupported() {
+        return isTeamPacketSupported() && OBJECTIVE_PACKET_CONSTRUCTOR != null;
+    }
+    
+    /**
+     * Creates a detached NMS objective used to build objective packets.
+     * <p>
+     * The objective uses the dummy criteria, shows integer scores and has the blank number
+     * format, so score packets without a custom score need no format of their own. It
+     * belongs to the same throwaway scoreboard as the packet teams.
+     * </p>
+     *
+     * @param objectiveName the name of the client-side objective
+     * @return the detached objective, or null if virtual boards are not supported (the error is logged)
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createPacketObjective(@NotNull String objectiveName) {
+        if (!isVirtualBoardSupported()) {
+            return null;
+        }
+        
+        try {
+            return OBJECTIVE_CONSTRUCTOR.invoke(
+                DETACHED_SCOREBOARD,
+                objectiveName,
+                DUMMY_CRITERIA,
+                toVanilla(Component.empty()),
+                INTEGER_RENDER_TYPE,
+                false,               // displayAutoUpdate
+                BLANK_NUMBER_FORMAT  // hide the numbers of every score
+            );
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to create packet objective: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Builds a ClientboundSetObjectivePacket.
+     *
+     * @param packetObjective an objective returned by {@link #createPacketObjective}, or by
+     *                        {@link #getObjectiveHandle} if the display name is null
+     * @param displayName the new display name, or null to keep the current one
+     * @param method {@link #OBJECTIVE_ADD}, {@link #OBJECTIVE_REMOVE} or {@link #OBJECTIVE_CHANGE}
+     * @return the NMS packet, or null if it could not be built (the error is logged)
+     * @throws IllegalStateException if virtual boards are not supported
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createObjectivePacket(
+        @NotNull Object packetObjective,
+        @Nullable Component displayName,
+        int method
+    ) {
+        if (!isVirtualBoardSupported()) {
+            throw new IllegalStateException("PacketHelper cannot build objective packets on this server");
+        }
+        
+        try {
+            if (displayName != null) {
+                OBJECTIVE_SET_DISPLAY_NAME_METHOD.invoke(packetObjective, toVanilla(displayName));
+            }
+            return OBJECTIVE_PACKET_CONSTRUCTOR.invoke(packetObjective, method);
+        
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to build objective packet: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Checks whether a Bukkit objective's title can be set without the server broadcasting it.
+     *
+     * @return true if {@link #getObjectiveHandle} and {@link #setObjectiveTitle} are available
+     * @since 2.1.0
+     */
+    public static boolean isObjectiveHandleSupported() {
+        return isVirtualBoardSupported() && CRAFT_OBJECTIVE_HANDLE_GETTER != null;
+    }
+    
+    /**
+     * Gets the NMS objective behind a Bukkit objective, for {@link #setObjectiveTitle} and
+     * {@link #createObjectivePacket}.
+     *
+     * @param objective an objective of a server-side scoreboard
+     * @return the NMS objective, or null if objective handles are not supported (the error is logged)
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object getObjectiveHandle(@NotNull Objective objective) {
+        if (!isObjectiveHandleSupported()) {
+            return null;
+        }
+        
+        try {
+            return (Object) CRAFT_OBJECTIVE_HANDLE_GETTER.invokeExact(objective);
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to get objective handle: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Sets the display name of a server-side objective without sending anything.
+     * <p>
+     * The counterpart of {@link #setTeamText} for titles: the board sends the change as an
+     * {@link #OBJECTIVE_CHANGE} packet with the rest of its update, and the objective keeps
+     * the title for when the server sends the scoreboard again. Must run on the thread that
+     * owns the scoreboard.
+     * </p>
+     *
+     * @param objectiveHandle an objective returned by {@link #getObjectiveHandle}
+     * @param title the new display name
+     * @return true if it was set, false if it failed (the error is logged)
+     * @throws IllegalStateException if objective handles are not supported
+     * @since 2.1.0
+     */
+    public static boolean setObjectiveTitle(@NotNull Object objectiveHandle, @NotNull Component title) {
+        if (!isObjectiveHandleSupported()) {
+            throw new IllegalStateException("PacketHelper cannot set objective titles on this server");
+        }
+        
+        try {
+            OBJECTIVE_DISPLAY_NAME_SETTER.invokeExact(objectiveHandle, toVanilla(title));
+            if (OBJECTIVE_FORMATTED_NAME_SETTER != null) {
+                Object formatted = (Object) OBJECTIVE_FORMAT_NAME_METHOD.invokeExact(objectiveHandle);
+                OBJECTIVE_FORMATTED_NAME_SETTER.invokeExact(objectiveHandle, formatted);
+            }
+            return true;
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to set objective title: " + t.getMessage());
+            t.printStackTrace();
+            return false;
+        }
+    }
+    
+    /**
+     * Builds a ClientboundSetDisplayObjectivePacket that shows an objective on the sidebar.
+     *
+     * @param packetObjective an objective returned by {@link #createPacketObjective}
+     * @return the NMS packet, or null if it could not be built (the error is logged)
+     * @throws IllegalStateException if virtual boards are not supported
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createSidebarPacket(@NotNull Object packetObjective) {
+        if (!isVirtualBoardSupported()) {
+            throw new IllegalStateException("PacketHelper cannot build objective packets on this server");
+        }
+        
+        try {
+            return DISPLAY_OBJECTIVE_PACKET_CONSTRUCTOR.invoke(SIDEBAR_DISPLAY_SLOT, packetObjective);
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to build display objective packet: " + t.getMessage());
+            t.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * Sends several prebuilt NMS packets to the player's connection as one
+     * ClientboundBundlePacket.
+     *
+     * @param player the player to send the packets to
+     * @param packets packets built by this class; copied, so the list may be reused
+     * @throws IllegalStateException if PacketHelper is not initialized
+     * @see PacketSender#sendAll(List)
+     * @since 2.1.0
+     */
+    public static void sendPackets(@NotNull Player player, @NotNull List<Object> packets) {
+        if (packets.isEmpty()) {
+            return;
+        }
+        
+        PacketSender sender = createSender(player);
+        if (sender != null) {
+            sender.sendAll(packets);
+        }
+    }
+    
+    /**
+     * Builds a ClientboundBundlePacket that the client applies in a single frame.
+     *
+     * @param packets packets built by this class; copied, so the list may be reused
+     * @return the bundle, or null if bundles are not supported or it could not be built
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createBundlePacket(@NotNull List<Object> packets) {
+        if (BUNDLE_PACKET_CONSTRUCTOR == null) {
+            return null;
+        }
+        
+        try {
+            // The bundle keeps the Iterable it is given, so it gets its own copy
+            return BUNDLE_PACKET_CONSTRUCTOR.invoke((Iterable<?>) new ArrayList<>(packets));
+        } catch (Throwable t) {
+            LOGGER.severe("[PacketHelper] Failed to build bundle packet: " + t.getMessage());
+            t.printStackTrace();
+            return null;
         }
     }
     
@@ -374,31 +1606,39 @@ public final class PacketHelper {
         @NotNull String objectiveName,
         @NotNull String lineIdentifier
     ) {
+        Object packet = createRemoveScorePacket(objectiveName, lineIdentifier);
+        if (packet != null) {
+            sendPacket(player, packet);
+        }
+    }
+    
+    /**
+     * Builds a ClientboundResetScorePacket without sending it.
+     *
+     * @param objectiveName the scoreboard objective name
+     * @param lineIdentifier the unique identifier for the score line to remove
+     * @return the NMS packet, or null if it is unavailable or could not be built (logged)
+     * @throws IllegalStateException if PacketHelper is not initialized
+     * @since 2.1.0
+     */
+    @Nullable
+    public static Object createRemoveScorePacket(@NotNull String objectiveName, @NotNull String lineIdentifier) {
         if (!INITIALIZED) {
             throw new IllegalStateException("PacketHelper is not initialized - cannot send remove score packets");
         }
         
         if (RESET_SCORE_PACKET_CONSTRUCTOR == null) {
             LOGGER.warning("[PacketHelper] ClientboundResetScorePacket is not available on this server version - cannot remove score");
-            return;
+            return null;
         }
         
         try {
-            // Step 1: Create the ClientboundResetScorePacket
             // Constructor: (String owner, String objectiveName)
-            Object packet = RESET_SCORE_PACKET_CONSTRUCTOR.invoke(lineIdentifier, objectiveName);
-            
-            // Step 2: Get the player's connection
-            Object craftPlayer = player;  // CraftPlayer
-            Object entityPlayer = CRAFT_PLAYER_GET_HANDLE.invoke(craftPlayer);
-            Object playerConnection = PLAYER_CONNECTION_FIELD.invoke(entityPlayer);
-            
-            // Step 3: Send the packet
-            SEND_PACKET_METHOD.invoke(playerConnection, packet);
-            
+            return RESET_SCORE_PACKET_CONSTRUCTOR.invoke(lineIdentifier, objectiveName);
         } catch (Throwable t) {
-            LOGGER.severe("[PacketHelper] Failed to send remove score packet: " + t.getMessage());
+            LOGGER.severe("[PacketHelper] Failed to build remove score packet: " + t.getMessage());
             t.printStackTrace();
+            return null;
         }
     }
     
@@ -432,6 +1672,18 @@ public final class PacketHelper {
         sb.append("    PaperAdventure.asVanilla(): ").append(PAPER_ADVENTURE_AS_VANILLA != null).append("\n");
         sb.append("    FixedFormat constructor: ").append(FIXED_FORMAT_CONSTRUCTOR != null).append("\n");
         sb.append("    NumberFormat.BLANK: ").append(BLANK_NUMBER_FORMAT != null).append("\n");
+        sb.append("    ClientboundBundlePacket: ").append(BUNDLE_PACKET_CONSTRUCTOR != null).append("\n");
+        sb.append("    ClientboundSetPlayerTeamPacket: ").append(TEAM_PACKET_FACTORY != null).append("\n");
+        sb.append("    PlayerTeam prefix/suffix fields: ").append(CRAFT_TEAM_HANDLE_GETTER != null).append("\n");
+        sb.append("    ClientboundSetObjectivePacket: ").append(OBJECTIVE_PACKET_CONSTRUCTOR != null).append("\n");
+        sb.append("    Objective display name field: ").append(CRAFT_OBJECTIVE_HANDLE_GETTER != null).append("\n");
+        sb.append("    Event loop dispatch (Netty): ").append(isEventLoopDispatchSupported()).append("\n");
+        sb.append("    Batched flush (Netty): ").append(isBatchedFlushSupported()).append("\n");
+        sb.append("    Shared encoding (Netty): ").append(STREAM_ENCODER_ENCODE_METHOD != null).append("\n");
+        sb.append("  Conversion Caches:\n");
+        sb.append("    Vanilla components: ").append(VANILLA_COMPONENTS.describe()).append("\n");
+        sb.append("    Fixed formats: ").append(FIXED_FORMATS.describe()).append("\n");
+        sb.append("    Legacy strings: ").append(LegacySupport.describeCache()).append("\n");
         
         return sb.toString();
     }
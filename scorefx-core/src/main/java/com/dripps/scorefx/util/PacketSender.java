@@ -0,0 +1,223 @@
+package com.dripps.scorefx.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A player's resolved network connection, used to send packets built by {@link PacketHelper}.
+ * <p>
+ * Created by {@link PacketHelper#createSender}, which looks up the player's NMS handle and
+ * connection once. Sending then goes straight to the connection through an exact-typed
+ * method handle. A sender is only valid for the connection it was created for; boards drop
+ * theirs when the player quits or respawns and resolve a new one on the next send.
+ * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> Sending is as thread-safe as the server's connection, but
+ * boards only use their sender from the thread that owns them. Batches handed off with
+ * {@link #dispatchAll} are sent on the channel's event loop.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class PacketSender {
+
+    private final Object connection;
+    private final Transport transport;
+    private final Object bundleDelimiter; // null = encoded bundles are sent unframed
+    private Object channel; // Netty channel, resolved on first use
+    private boolean channelResolved;
+    private Executor eventLoop; // The channel's event loop, resolved on first dispatch
+    
+    PacketSender(@NotNull Object connection) {
+        this.connection = connection;
+        this.transport = PacketHelper::sendToConnection;
+        this.bundleDelimiter = PacketHelper.getBundleDelimiterPacket();
+    }
+    
+    /**
+     * Creates a sender for a known channel, sending unencoded packets through a custom
+     * transport instead of the NMS connection.
+     *
+     * @param connection the connection handed to the transport
+     * @param channel the Netty channel, or null if encoded packets cannot be written
+     * @param bundleDelimiter the packet that frames encoded bundles, or null for none
+     * @param transport sends packets that are not written to the channel as bytes
+     */
+    PacketSender(
+        @NotNull Object connection,
+        @Nullable Object channel,
+        @Nullable Object bundleDelimiter,
+        @NotNull Transport transport
+    ) {
+        this.connection = connection;
+        this.transport = transport;
+        this.bundleDelimiter = bundleDelimiter;
+        this.channel = channel;
+        this.channelResolved = true;
+    }
+    
+    /**
+     * Sends a packet.
+     * <p>
+     * An {@link EncodedPacket} is written to the channel as bytes. Both paths hand the
+     * packet to the channel's event loop in call order, so packets arrive in the order
+     * they were sent.
+     * </p>
+     *
+     * @param packet a packet built by {@link PacketHelper}, or an {@link EncodedPacket}
+     */
+    public void send(@NotNull Object packet) {
+        send(packet, true);
+    }
+    
+    private void send(@NotNull Object packet, boolean flush) {
+        if (packet instanceof EncodedPacket encoded) {
+            Object channel = getChannel();
+            if (channel != null && NettySupport.writeEncoded(channel, encoded, flush)) {
+                return;
+            }
+            packet = encoded.getPacket(); // Encode it for this player after all
+        }
+        
+        transport.send(connection, packet, flush);
+    }
+    
+    /**
+     * Flushes the packets written by {@link #sendAll(List, boolean)} without flushing.
+     */
+    public void flush() {
+        Object channel = getChannel();
+        if (channel != null) {
+            NettySupport.flush(channel);
+        }
+    }
+    
+    /**
+     * Checks whether the client is keeping up with the packets already written to it.
+     *
+     * @return false if the channel's outbound buffer is full; true if unknown
+     */
+    public boolean isWritable() {
+        Object channel = getChannel();
+        return channel == null || NettySupport.isWritable(channel);
+    }
+    
+    /**
+     * Gets the Netty channel of this connection.
+     *
+     * @return the channel, or null if shared encoding is unavailable
+     */
+    @Nullable
+    Object getChannel() {
+        if (!channelResolved) {
+            channel = PacketHelper.getChannel(connection);
+            channelResolved = true;
+        }
+        return channel;
+    }
+    
+    /**
+     * Sends several packets as one bundle, or one by one in order if they cannot be bundled.
+     *
+     * @param packets packets built by {@link PacketHelper}; copied, so the list may be reused
+     * @see PacketHelper#createBundlePacket(List)
+     */
+    public void sendAll(@NotNull List<Object> packets) {
+        sendAll(packets, true);
+    }
+    
+    /**
+     * Sends several packets like {@link #sendAll(List)}, optionally without flushing the
+     * channel, so that one {@link #flush()} later sends everything written in between.
+     *
+     * @param packets packets built by {@link PacketHelper}; copied, so the list may be reused
+     * @param flush false to write the packets without flushing them
+     * @see PacketHelper#isBatchedFlushSupported()
+     */
+    public void sendAll(@NotNull List<Object> packets, boolean flush) {
+        if (packets.size() > 1 && !containsEncoded(packets)) {
+            Object bundle = PacketHelper.createBundlePacket(packets);
+            if (bundle != null) {
+                send(bundle, flush);
+                return;
+            }
+        }
+        
+        // A bundle packet cannot carry bytes, so encoded packets are framed with delimiters
+        Object delimiter = packets.size() > 1 ? bundleDelimiter : null;
+        if (delimiter != null) {
+            send(delimiter, false);
+        }
+        for (Object packet : packets) {
+            send(packet, false);
+        }
+        if (delimiter != null) {
+            send(delimiter, false);
+        }
+        
+        // One flush for all of them
+        if (flush) {
+            flush();
+        }
+    }
+    
+    /**
+     * Hands a batch of packets to the channel's event loop, which sends it like
+     * {@link #sendAll(List)} with a single flush.
+     * <p>
+     * Bundling, encoding and writing then happen off the calling thread. The event loop
+     * runs its tasks in submission order, and the server hands packets sent from other
+     * threads to the same loop, so packets still arrive in the order they were sent.
+     * </p>
+     *
+     * @param packets packets built by {@link PacketHelper}; copied, so the list may be reused
+     * @return true if the batch was handed off, false if it must be sent on this thread
+     * @see PacketHelper#isEventLoopDispatchSupported()
+     */
+    public boolean dispatchAll(@NotNull List<Object> packets) {
+        if (eventLoop == null) {
+            Object channel = getChannel();
+            eventLoop = channel != null ? NettySupport.getEventLoop(channel) : null;
+            if (eventLoop == null) {
+                return false;
+            }
+        }
+        
+        List<Object> batch = List.copyOf(packets);
+        try {
+            eventLoop.execute(() -> sendAll(batch, true));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false; // Event loop shutting down
+        }
+    }
+    
+    /**
+     * Sends a packet through a connection, which encodes it for its player.
+     */
+    @FunctionalInterface
+    interface Transport {
+    
+        /**
+         * Sends a packet.
+         *
+         * @param connection the connection
+         * @param packet the packet
+         * @param flush false to leave the packet in the channel until the next flush
+         */
+        void send(@NotNull Object connection, @NotNull Object packet, boolean flush);
+    }
+    
+    private static boolean containsEncoded(@NotNull List<Object> packets) {
+        for (Object packet : packets) {
+            if (packet instanceof EncodedPacket) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
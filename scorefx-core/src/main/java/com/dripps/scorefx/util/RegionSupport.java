@@ -0,0 +1,91 @@
+package com.dripps.scorefx.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Utility class for running ScoreFX on region-threaded servers (Folia).
+ * <p>
+ * On Paper every board is owned by the main server thread. On Folia there is no main
+ * thread: each player is ticked by the thread of the region they are in, and board
+ * work must happen on that thread. This class detects which model the server uses and
+ * provides the thread checks for both.
+ * </p>
+ * <p>
+ * This class is thread-safe as all methods are static and the detection result is immutable.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class RegionSupport {
+    
+    private static final boolean REGION_THREADED = detectRegionThreading();
+    
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class and should only be used via static methods.
+     */
+    private RegionSupport() {
+        throw new UnsupportedOperationException("RegionSupport is a utility class and cannot be instantiated");
+    }
+    
+    /**
+     * Checks whether the server ticks regions on separate threads (Folia).
+     *
+     * @return true on Folia, false on Paper
+     */
+    public static boolean isRegionThreaded() {
+        return REGION_THREADED;
+    }
+    
+    /**
+     * Checks whether the current thread may modify the given player's board.
+     * <p>
+     * On Paper this is the main server thread. On Folia it is the thread of the region
+     * that owns the player; while the server is stopping any thread is accepted so that
+     * boards can be cleaned up during shutdown.
+     * </p>
+     *
+     * @param player the board owner, must not be null
+     * @return true if the current thread owns the player
+     */
+    public static boolean isOwnedByCurrentThread(@NotNull Player player) {
+        if (!REGION_THREADED) {
+            return Bukkit.isPrimaryThread();
+        }
+        
+        return Bukkit.isOwnedByCurrentRegion(player) || Bukkit.isStopping();
+    }
+    
+    /**
+     * Checks whether the current thread may run server-wide operations.
+     * <p>
+     * On Paper this is the main server thread; on Folia it is the global region thread,
+     * or any thread while the server is stopping.
+     * </p>
+     *
+     * @return true if the current thread may run server-wide operations
+     */
+    public static boolean isServerThread() {
+        if (!REGION_THREADED) {
+            return Bukkit.isPrimaryThread();
+        }
+        
+        return Bukkit.isGlobalTickThread() || Bukkit.isStopping();
+    }
+    
+    /**
+     * Detects Folia by looking for its region scheduler implementation class.
+     *
+     * @return true if the server is region-threaded
+     */
+    private static boolean detectRegionThreading() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
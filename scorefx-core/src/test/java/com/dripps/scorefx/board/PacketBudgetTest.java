@@ -0,0 +1,94 @@
+package com.dripps.scorefx.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the token accounting of a {@link PacketBudget.Bucket}.
+ * <p>
+ * Refills are driven with explicit {@link System#nanoTime()} values, starting from the
+ * bucket's creation, so no test waits for real time to pass.
+ * </p>
+ */
+class PacketBudgetTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    
+    private static PacketBudget.Bucket bucket(int packetsPerSecond, int bytesPerSecond) {
+        return new PacketBudget(packetsPerSecond, bytesPerSecond, 0, Map.of()).newBucket();
+    }
+    
+    @Test
+    void newBucketHoldsOneSecondOfPackets() {
+        PacketBudget.Bucket bucket = bucket(10, 0);
+        
+        for (int i = 0; i < 10; i++) {
+            assertTrue(bucket.tryConsume(1, 0), "packet " + i);
+        }
+        assertFalse(bucket.tryConsume(1, 0));
+    }
+    
+    @Test
+    void refillIsProportionalToElapsedTime() {
+        PacketBudget.Bucket bucket = bucket(10, 0);
+        assertTrue(bucket.tryConsume(10, 0));
+        long now = System.nanoTime();
+        bucket.refill(now); // Earns next to nothing, the bucket was only just created
+        
+        bucket.refill(now + 300_000_000L);
+        
+        assertTrue(bucket.tryConsume(3, 0));
+        assertFalse(bucket.tryConsume(1, 0));
+    }
+    
+    @Test
+    void refillIsCappedAtOneSecond() {
+        PacketBudget.Bucket bucket = bucket(10, 0);
+        long now = System.nanoTime();
+        assertTrue(bucket.tryConsume(10, 0));
+        
+        bucket.refill(now + 60 * SECOND); // A minute idle still earns one second
+        
+        assertTrue(bucket.tryConsume(10, 0));
+        assertFalse(bucket.tryConsume(1, 0));
+    }
+    
+    @Test
+    void byteLimitHoldsBackUpdatesThatFitThePacketLimit() {
+        PacketBudget.Bucket bucket = bucket(100, 200);
+        
+        assertTrue(bucket.tryConsume(1, 100)); // 100 bytes plus the packet overhead
+        assertFalse(bucket.tryConsume(1, 100), "the packet tokens alone would allow it");
+        assertTrue(bucket.tryConsume(1, 0));
+    }
+    
+    @Test
+    void oversizedUpdateGoesThroughWhenFullAndLeavesDebt() {
+        PacketBudget.Bucket bucket = bucket(2, 0);
+        long now = System.nanoTime();
+        
+        assertTrue(bucket.tryConsume(5, 0), "a full bucket lets an update through that can never fit");
+        assertFalse(bucket.tryConsume(1, 0));
+        
+        // 3 packets of debt: one second of refill only brings the bucket back to -1
+        bucket.refill(now + SECOND);
+        assertFalse(bucket.tryConsume(1, 0));
+        bucket.refill(now + 2 * SECOND);
+        assertTrue(bucket.tryConsume(1, 0));
+    }
+    
+    @Test
+    void oversizedUpdateWaitsUntilTheBucketIsFull() {
+        PacketBudget.Bucket bucket = bucket(4, 0);
+        long now = System.nanoTime();
+        assertTrue(bucket.tryConsume(1, 0));
+        
+        assertFalse(bucket.tryConsume(6, 0), "the bucket is not full");
+        bucket.refill(now + SECOND);
+        assertTrue(bucket.tryConsume(6, 0));
+    }
+}
@@ -0,0 +1,115 @@
+package com.dripps.scorefx.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link IntervalBuckets} run each task on every tick of its phase and drop
+ * tasks that lost their slot.
+ */
+class IntervalBucketsTest {
+
+    private final TaskTable table = new TaskTable();
+    private final IntervalBuckets buckets = new IntervalBuckets(table);
+    private final int board = table.allocateBoard();
+    private long generation;
+    
+    private long task(int row, int interval) {
+        return table.assign(TaskTable.handle(board, row), ++generation, UpdateTask.TaskType.LINE_UPDATE, interval, "", false);
+    }
+    
+    /** Fires every tick in the range and returns the ticks the task ran on. */
+    private List<Long> runs(long task, long fromTick, long toTick) {
+        List<Long> ticks = new ArrayList<>();
+        for (long tick = fromTick; tick <= toTick; tick++) {
+            long current = tick;
+            buckets.fire(tick, ran -> {
+                if (ran == task) {
+                    ticks.add(current);
+                }
+            });
+        }
+        return ticks;
+    }
+    
+    @Test
+    void acceptsIntervalsUpToTheMaximum() {
+        assertFalse(IntervalBuckets.accepts(0));
+        assertTrue(IntervalBuckets.accepts(1));
+        assertTrue(IntervalBuckets.accepts(IntervalBuckets.MAX_INTERVAL));
+        assertFalse(IntervalBuckets.accepts(IntervalBuckets.MAX_INTERVAL + 1));
+    }
+    
+    @Test
+    void tasksRunEveryIntervalFromTheirFirstTick() {
+        long everyTick = task(1, 1);
+        long everyFifth = task(2, 5);
+        long everyTwentieth = task(3, 20);
+        buckets.add(everyTick, 1, 1);
+        buckets.add(everyFifth, 5, 3);
+        buckets.add(everyTwentieth, 20, 20);
+        
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), runs(everyTick, 1, 6));
+        assertEquals(List.of(8L, 13L, 18L, 23L), runs(everyFifth, 7, 24));
+        assertEquals(List.of(40L, 60L), runs(everyTwentieth, 25, 60));
+        assertEquals(3, buckets.size());
+    }
+    
+    @Test
+    void staleTasksAreDroppedWhenTheirBucketFires() {
+        long replaced = task(1, 4);
+        long cancelled = task(2, 4);
+        long kept = task(3, 4);
+        buckets.add(replaced, 4, 2);
+        buckets.add(cancelled, 4, 2);
+        buckets.add(kept, 4, 2);
+        
+        long replacement = task(1, 4); // Stamps a new generation into the slot
+        buckets.add(replacement, 4, 3);
+        table.clear(TaskTable.handle(board, 2));
+        
+        List<Long> ran = new ArrayList<>();
+        buckets.fire(2, ran::add);
+        assertEquals(List.of(kept), ran);
+        assertEquals(2, buckets.size(), "the stale tasks left their bucket");
+        
+        ran.clear();
+        buckets.fire(3, ran::add);
+        assertEquals(List.of(replacement), ran);
+    }
+    
+    @Test
+    void tasksAddedWhileFiringWaitForTheNextPeriod() {
+        long first = task(1, 3);
+        long second = task(2, 3);
+        buckets.add(first, 3, 3);
+        
+        List<Long> ran = new ArrayList<>();
+        buckets.fire(3, task -> {
+            ran.add(task);
+            buckets.add(second, 3, 6); // Same bucket
+        });
+        assertEquals(List.of(first), ran);
+        
+        ran.clear();
+        buckets.fire(6, ran::add);
+        assertEquals(List.of(first, second), ran);
+    }
+    
+    @Test
+    void leastLoadedPhaseFillsEmptyPhasesFirst() {
+        buckets.add(task(1, 3), 3, 3); // Phase 0
+        buckets.add(task(2, 3), 3, 4); // Phase 1
+        assertEquals(2, buckets.leastLoadedPhase(3));
+        
+        buckets.add(task(3, 3), 3, 5); // Phase 2
+        buckets.add(task(4, 3), 3, 6); // Phase 0 again
+        assertEquals(1, buckets.leastLoadedPhase(3));
+    }
+}
@@ -0,0 +1,156 @@
+package com.dripps.scorefx.scheduler;
+
+import com.dripps.scorefx.animation.FramePayload;
+import com.dripps.scorefx.board.AbstractBoard;
+import com.dripps.scorefx.board.LineRendering;
+import com.dripps.scorefx.hook.PAPIHook;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that {@link Heartbeat#tick()} allocates nothing once its scheduler is warm.
+ * <p>
+ * Every board has a title refresh and animated rows spread over the intervals and start
+ * ticks. Recurring tasks start in the {@link TimingWheelTaskQueue}, move to their
+ * {@link IntervalBuckets} after the first run, and tasks with intervals too long for a
+ * bucket are offered to the queue again. The rows have no animation, so they are
+ * dispatched without touching their board, while the titles go through placeholder
+ * replacement, the legacy conversion and a flush of the board that drops the unchanged
+ * title. Allocation is read from the thread's allocation counter, so anything allocated
+ * per tick or per task run would add up to many kilobytes.
+ * </p>
+ * <p>
+ * Wheel slots keep their arrays once grown, but a slot of the top level used here is only
+ * reached once per lap of 2<sup>18</sup> ticks. The warm-up therefore runs a full lap, and
+ * the long intervals divide the lap, so every slot has held its largest number of tasks
+ * before the measurement starts.
+ * </p>
+ */
+class SchedulerAllocationTest {
+
+    private static final int BOARDS = 200;
+    private static final int[] INTERVALS = {1, 2, 5, 10, 20, 40, 100, 2048, 4096}; // Last two use the queue
+    private static final int WARMUP_TICKS = (1 << 18) + 4096; // One lap of the level-2 slots, plus the longest interval
+    private static final int MEASURED_TICKS = 20_000;
+    private static final long ALLOWED_BYTES = 1024; // Slack for the counter itself, far below one byte per tick
+    
+    /** A board that sends nothing; the title updates it gets are dropped while rendering. */
+    private static final class SilentBoard extends AbstractBoard {
+    
+        SilentBoard(Player player, Heartbeat heartbeat) {
+            super(player, heartbeat, LineRendering.TEAMS);
+        }
+        
+        @Override
+        protected void sendTitle(@NotNull Component title, @Nullable FramePayload payload) {
+        }
+        
+        @Override
+        protected void sendLineText(int row, @NotNull Component prefix, @NotNull Component suffix, @Nullable Object teamPacket) {
+        }
+        
+        @Override
+        protected boolean sendsTeamPackets() {
+            return false;
+        }
+        
+        @Override
+        protected boolean isObjectiveFormatBlank() {
+            return true;
+        }
+        
+        @Override
+        protected void removeFromClient() {
+        }
+    }
+    
+    /** Creates a proxy that answers the given method names and returns null otherwise. */
+    private static <T> T stub(Class<T> type, String method, Object value, String method2, Object value2) {
+        return type.cast(Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[]{type},
+            (proxy, invoked, args) -> {
+                if (invoked.getName().equals(method)) {
+                    return value;
+                }
+                if (invoked.getName().equals(method2)) {
+                    return value2;
+                }
+                return invoked.getReturnType() == boolean.class ? false : null;
+            }
+        ));
+    }
+    
+    @Test
+    void tickingRecurringTasksAllocatesNothing() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        
+        Logger logger = Logger.getLogger("ScoreFX-test");
+        logger.setLevel(Level.WARNING);
+        Plugin plugin = stub(Plugin.class, "getLogger", logger, "getName", "ScoreFX");
+        Heartbeat heartbeat = new Heartbeat(plugin, new PAPIHook(logger));
+        heartbeat.setTickBudgetNanos(TimeUnit.SECONDS.toNanos(1)); // Checked per task, never spent
+        
+        // The title and rows 1-15 of every board, spread over the intervals and start ticks
+        int tasks = 0;
+        for (int board = 0; board < BOARDS; board++) {
+            UUID boardId = new UUID(0, board);
+            Player player = stub(Player.class, "isOnline", true, "getUniqueId", boardId);
+            heartbeat.registerBoard(boardId, new SilentBoard(player, heartbeat));
+            
+            for (int row = -1; row <= 15; row++) {
+                if (row == 0) {
+                    continue;
+                }
+                int interval = INTERVALS[tasks % INTERVALS.length];
+                heartbeat.scheduleTask(new UpdateTask(
+                    row == -1 ? UpdateTask.TaskType.TITLE_UPDATE : UpdateTask.TaskType.LINE_ANIMATION,
+                    boardId,
+                    1 + tasks % interval,
+                    row,
+                    "",
+                    interval
+                ));
+                tasks++;
+            }
+        }
+        
+        tick(heartbeat, WARMUP_TICKS);
+        assertEquals(tasks, heartbeat.getQueueSize() + heartbeat.getRecurringTaskCount(), "every task is still scheduled");
+        
+        long skippedBefore = heartbeat.getSkippedUpdateCount();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        tick(heartbeat, MEASURED_TICKS);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        
+        assertTrue(heartbeat.getSkippedUpdateCount() - skippedBefore > MEASURED_TICKS, "titles were flushed while measuring");
+        assertTrue(
+            allocated <= ALLOWED_BYTES,
+            "allocated " + allocated + " bytes in " + MEASURED_TICKS + " ticks"
+        );
+    }
+    
+    private static void tick(Heartbeat heartbeat, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            heartbeat.tick();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.dripps.scorefx.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the {@link TimingWheelTaskQueue} hands out every task on its execution tick,
+ * wherever in the wheel it was placed.
+ * <p>
+ * Tasks are plain references here, each encoding its own execution tick, so a poll can
+ * check that every task comes out on time and in order.
+ * </p>
+ */
+class TimingWheelTaskQueueTest {
+
+    private static final long LEVEL_1 = 1L << 6; // First tick outside the level-0 block
+    private static final long LEVEL_2 = 1L << 12;
+    private static final long LEVEL_3 = 1L << 18;
+    private static final long OVERFLOW = 1L << 24; // Beyond the top level
+    
+    private final TimingWheelTaskQueue queue = new TimingWheelTaskQueue();
+    private final List<Long> polled = new ArrayList<>();
+    private long currentTick;
+    
+    /** Polls tick by tick and checks that every task comes out on the tick it names. */
+    private void tickUntil(long lastTick) {
+        while (currentTick < lastTick) {
+            currentTick++;
+            queue.pollDue(currentTick, task -> {
+                assertEquals(currentTick, task, "task due on tick " + task + " polled on tick " + currentTick);
+                polled.add(task);
+            });
+        }
+    }
+    
+    @Test
+    void tasksAreDueOnTheirTickAcrossLevelBoundariesAndOverflow() {
+        long[] ticks = {
+            1, 63, LEVEL_1, LEVEL_1 + 1, LEVEL_2 - 1, LEVEL_2, LEVEL_2 + 65,
+            LEVEL_3 - 1, LEVEL_3, LEVEL_3 + LEVEL_2 + 1, OVERFLOW - 1, OVERFLOW, OVERFLOW + LEVEL_1 + 3
+        };
+        // Offered in reverse, so the order can only come from the wheel
+        for (int i = ticks.length - 1; i >= 0; i--) {
+            queue.offer(ticks[i], ticks[i]);
+        }
+        assertEquals(ticks.length, queue.size());
+        
+        tickUntil(OVERFLOW + LEVEL_2);
+        
+        assertEquals(ticks.length, polled.size());
+        for (int i = 0; i < ticks.length; i++) {
+            assertEquals(ticks[i], polled.get(i));
+        }
+        assertEquals(0, queue.size());
+    }
+    
+    @Test
+    void tasksOfferedWhileTheWheelTurnsAreDueRelativeToTheCurrentTick() {
+        tickUntil(LEVEL_2 - 10);
+        
+        // Due across the boundaries ahead of the current tick, not the boundaries of tick 0
+        long[] ticks = {LEVEL_2 - 1, LEVEL_2, LEVEL_2 + 5, LEVEL_3 + 7};
+        for (long tick : ticks) {
+            queue.offer(tick, tick);
+        }
+        tickUntil(LEVEL_3 + LEVEL_1);
+        
+        assertEquals(List.of(LEVEL_2 - 1, LEVEL_2, LEVEL_2 + 5, LEVEL_3 + 7), polled);
+    }
+    
+    @Test
+    void overdueTasksAreDueOnTheNextTick() {
+        tickUntil(100);
+        queue.offer(101, 50); // Encodes the tick it will actually run on
+        
+        tickUntil(101);
+        
+        assertEquals(List.of(101L), polled);
+    }
+    
+    @Test
+    void pollAfterALongGapReturnsEveryDueTaskInOrder() {
+        long[] ticks = {3, LEVEL_1 + 9, LEVEL_2 + 2, LEVEL_3 + 1, OVERFLOW + 4};
+        for (long tick : ticks) {
+            queue.offer(tick, tick);
+        }
+        
+        // One poll covering every level and the overflow; a task offered on the way that
+        // is due within the gap comes out in the same poll, one due after it does not
+        List<Long> tasks = new ArrayList<>();
+        queue.pollDue(OVERFLOW + 10, task -> {
+            tasks.add(task);
+            if (task == LEVEL_1 + 9) {
+                queue.offer(LEVEL_2 + 1, LEVEL_2 + 1);
+                queue.offer(OVERFLOW + 11, OVERFLOW + 11);
+            }
+        });
+        
+        assertEquals(List.of(3L, LEVEL_1 + 9, LEVEL_2 + 1, LEVEL_2 + 2, LEVEL_3 + 1, OVERFLOW + 4), tasks);
+        assertEquals(1, queue.size());
+        
+        tasks.clear();
+        queue.pollDue(OVERFLOW + 11, tasks::add);
+        assertEquals(List.of(OVERFLOW + 11), tasks);
+    }
+    
+    @Test
+    void replacedAndCancelledTasksAreNoLongerCurrentWhenTheyComeDue() {
+        TaskTable table = new TaskTable();
+        int board = table.allocateBoard();
+        int title = TaskTable.handle(board, -1);
+        int row = TaskTable.handle(board, 3);
+        
+        long replaced = table.assign(title, 1, UpdateTask.TaskType.TITLE_UPDATE, 0, "old", false);
+        long cancelled = table.assign(row, 2, UpdateTask.TaskType.LINE_UPDATE, 0, "row", false);
+        queue.offer(replaced, LEVEL_2 + 1);
+        queue.offer(cancelled, LEVEL_1 + 1);
+        
+        // Replacing the title stamps a new generation; cancelling the row clears its slot
+        long replacement = table.assign(title, 3, UpdateTask.TaskType.TITLE_UPDATE, 0, "new", false);
+        queue.offer(replacement, LEVEL_2 + 1);
+        table.clear(row);
+        
+        List<Long> current = new ArrayList<>();
+        List<Long> stale = new ArrayList<>();
+        queue.pollDue(LEVEL_2 + 1, task -> (table.isCurrent(task) ? current : stale).add(task));
+        
+        assertEquals(List.of(replacement), current);
+        assertEquals(List.of(cancelled, replaced), stale);
+        assertFalse(table.isCurrent(replaced));
+        assertTrue(table.isCurrent(replacement));
+    }
+}
@@ -0,0 +1,156 @@
+package com.dripps.scorefx.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the eviction and admission decisions of a {@link BoundedCache} and the counts of
+ * its {@link FrequencySketch}.
+ */
+class BoundedCacheTest {
+
+    private static final int SIZE = 64;
+    private static final int ALLOWED_COLLISIONS = 4; // Of 256 one-off keys against 64 hot ones
+    private static final Function<String, String> LOADER = key -> key;
+    
+    /** Fills the cache with {@code hot-0} to {@code hot-63}, each requested {@code requests} times. */
+    private static void fillWithHotKeys(BoundedCache<String, String> cache, int requests) {
+        for (int i = 0; i < requests; i++) {
+            for (int key = 0; key < SIZE; key++) {
+                cache.get("hot-" + key, LOADER);
+            }
+        }
+    }
+    
+    @Test
+    void pinnedKeyIsNeverEvicted() {
+        BoundedCache<String, String> cache = new BoundedCache<>(SIZE);
+        cache.pin("pinned");
+        cache.get("pinned", LOADER);
+        
+        // Many laps of the clock hand over one-off keys
+        for (int i = 0; i < SIZE * 20; i++) {
+            cache.get("one-off-" + i, LOADER);
+        }
+        
+        assertNotNull(cache.getIfPresent("pinned"));
+        assertEquals(SIZE, cache.size());
+        assertTrue(cache.getEvictionCount() > 0);
+    }
+    
+    @Test
+    void unpinnedKeyCanBeEvictedAgain() {
+        BoundedCache<String, String> cache = new BoundedCache<>(SIZE);
+        cache.pin("frame");
+        cache.pin("frame"); // Pinned by two animations
+        cache.get("frame", LOADER);
+        
+        cache.unpin("frame");
+        for (int i = 0; i < SIZE * 4; i++) {
+            cache.get("one-off-" + i, LOADER);
+        }
+        assertNotNull(cache.getIfPresent("frame"), "one pin is still held");
+        
+        cache.unpin("frame");
+        for (int i = 0; i < SIZE * 4; i++) {
+            cache.get("another-" + i, LOADER);
+        }
+        assertNull(cache.getIfPresent("frame"));
+    }
+    
+    @Test
+    void pinnedKeysBeyondTheMaximumSizeGrowTheCache() {
+        BoundedCache<String, String> cache = new BoundedCache<>(SIZE, true);
+        for (int i = 0; i < SIZE * 2; i++) {
+            cache.pin("pinned-" + i);
+            cache.get("pinned-" + i, LOADER);
+        }
+        
+        assertEquals(SIZE * 2, cache.size());
+        for (int i = 0; i < SIZE * 2; i++) {
+            assertNotNull(cache.getIfPresent("pinned-" + i));
+        }
+    }
+    
+    @Test
+    void admissionRejectsOneOffKeys() {
+        BoundedCache<String, String> cache = new BoundedCache<>(SIZE, true);
+        fillWithHotKeys(cache, 5);
+        
+        int oneOffs = SIZE * 4;
+        for (int i = 0; i < oneOffs; i++) {
+            assertEquals("one-off-" + i, cache.get("one-off-" + i, LOADER), "rejected values are still returned");
+        }
+        
+        // The sketch only overestimates: a one-off key gets in when all its counters collide with hot keys
+        long admitted = oneOffs - cache.getRejectionCount();
+        assertTrue(admitted <= ALLOWED_COLLISIONS, admitted + " one-off keys were admitted");
+        assertEquals(admitted, cache.getEvictionCount());
+        int hotKeys = 0;
+        for (int key = 0; key < SIZE; key++) {
+            if (cache.getIfPresent("hot-" + key) != null) {
+                hotKeys++;
+            }
+        }
+        assertEquals(SIZE - admitted, hotKeys);
+    }
+    
+    @Test
+    void admissionTakesAKeyRequestedMoreOftenThanItsVictim() {
+        BoundedCache<String, String> cache = new BoundedCache<>(SIZE, true);
+        fillWithHotKeys(cache, 2);
+        
+        cache.get("rising", LOADER);
+        cache.get("rising", LOADER);
+        assertNull(cache.getIfPresent("rising"), "as frequent as the victim is not enough");
+        
+        cache.get("rising", LOADER);
+        assertNotNull(cache.getIfPresent("rising"));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(SIZE, cache.size());
+    }
+    
+    @Test
+    void withoutAdmissionOneOffKeysEvictTheCache() {
+        BoundedCache<String, String> cache = new BoundedCache<>(SIZE);
+        fillWithHotKeys(cache, 3);
+        
+        for (int i = 0; i < SIZE * 4; i++) {
+            cache.get("one-off-" + i, LOADER);
+        }
+        
+        assertEquals(0, cache.getRejectionCount());
+        assertNull(cache.getIfPresent("hot-0"));
+    }
+    
+    @Test
+    void sketchCountsAccessesAndHalvesThemOverTime() {
+        FrequencySketch sketch = new FrequencySketch(SIZE);
+        for (int i = 0; i < 6; i++) {
+            sketch.increment("key");
+        }
+        assertEquals(6, sketch.frequency("key"));
+        assertEquals(0, sketch.frequency("other"));
+        
+        // Ten increments per slot of the cache trigger a halving
+        for (int i = 6; i < SIZE * 10; i++) {
+            sketch.increment("filler-" + i);
+        }
+        assertEquals(3, sketch.frequency("key"));
+    }
+    
+    @Test
+    void sketchCountersSaturate() {
+        FrequencySketch sketch = new FrequencySketch(SIZE);
+        for (int i = 0; i < 40; i++) {
+            sketch.increment("key");
+        }
+        assertEquals(15, sketch.frequency("key"));
+    }
+}
@@ -0,0 +1,200 @@
+package com.dripps.scorefx.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.codec.MessageToByteEncoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a packet encoded once and written to many channels puts the same bytes on
+ * the wire as encoding it for each player.
+ * <p>
+ * Each {@link EmbeddedChannel} mimics a play connection: an {@code "encoder"} that encodes
+ * packets with its codec, behind a length prepender standing in for compression and framing.
+ * The senders' transport writes plain packets to the channel like the server's connection
+ * does, so they pass through the encoder, while {@link EncodedPacket}s skip it. Shared
+ * packets are encoded by {@link PacketHelper#encodePacket(Object, Object, PacketHelper.EncoderCodec)},
+ * the path the server's packets take, with access to the test encoder's codec in place of
+ * the server's PacketEncoder.
+ * </p>
+ */
+class SharedEncodingTest {
+
+    private static final TestPacket DELIMITER = new TestPacket(0, "");
+    
+    /** A packet as the test codec sees it. */
+    private record TestPacket(int id, String text) {
+    }
+    
+    /** The play codec, held by each channel's encoder like the server's protocol info. */
+    private static final class TestCodec {
+    
+        void encode(ByteBuf out, TestPacket packet) {
+            byte[] text = packet.text().getBytes(StandardCharsets.UTF_8);
+            out.writeByte(packet.id());
+            out.writeShort(text.length);
+            out.writeBytes(text);
+        }
+    }
+    
+    /** Encodes packets written to the channel with its codec, like the server's PacketEncoder. */
+    private static final class TestPacketEncoder extends MessageToByteEncoder<TestPacket> {
+    
+        private final TestCodec codec = new TestCodec();
+        
+        @Override
+        protected void encode(ChannelHandlerContext ctx, TestPacket packet, ByteBuf out) {
+            codec.encode(out, packet);
+        }
+    }
+    
+    /** Reads the codec from a {@link TestPacketEncoder}, as PacketHelper does from a PacketEncoder. */
+    private static final PacketHelper.EncoderCodec TEST_ENCODER_CODEC = new PacketHelper.EncoderCodec() {
+        @Override
+        public Object getCodec(Object encoder) {
+            return encoder instanceof TestPacketEncoder testEncoder ? testEncoder.codec : null;
+        }
+        
+        @Override
+        public void encode(Object codec, Object buffer, Object packet) {
+            ((TestCodec) codec).encode((ByteBuf) buffer, (TestPacket) packet);
+        }
+    };
+    
+    private static EmbeddedChannel newPlayChannel() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast("prepender", new LengthFieldPrepender(2));
+        channel.pipeline().addLast("encoder", new TestPacketEncoder());
+        return channel;
+    }
+    
+    private static PacketSender newSender(EmbeddedChannel channel) {
+        return new PacketSender(channel, channel, DELIMITER, (connection, packet, flush) -> {
+            if (flush) {
+                channel.writeAndFlush(packet);
+            } else {
+                channel.write(packet);
+            }
+        });
+    }
+    
+    /** Encodes a packet once with the reference channel's codec. */
+    private static EncodedPacket encodeShared(EmbeddedChannel reference, TestPacket packet) throws Throwable {
+        EncodedPacket encoded = PacketHelper.encodePacket(reference, packet, TEST_ENCODER_CODEC);
+        assertNotNull(encoded, "the reference channel has a play encoder");
+        return encoded;
+    }
+    
+    /** Reads and releases everything the channel wrote to the wire. */
+    private static byte[] drain(EmbeddedChannel channel) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (Object message; (message = channel.readOutbound()) != null; ) {
+            ByteBuf buf = (ByteBuf) message;
+            byte[] chunk = new byte[buf.readableBytes()];
+            buf.readBytes(chunk);
+            bytes.writeBytes(chunk);
+            buf.release();
+        }
+        return bytes.toByteArray();
+    }
+    
+    @Test
+    void sharedBytesMatchPerPlayerEncoding() throws Throwable {
+        TestPacket packet = new TestPacket(1, "§6Gold §lline");
+        
+        EmbeddedChannel perPlayer = newPlayChannel();
+        newSender(perPlayer).send(packet);
+        byte[] expected = drain(perPlayer);
+        assertTrue(expected.length > 0);
+        
+        EncodedPacket encoded = encodeShared(newPlayChannel(), packet);
+        for (int i = 0; i < 3; i++) {
+            EmbeddedChannel channel = newPlayChannel();
+            newSender(channel).send(encoded);
+            assertArrayEquals(expected, drain(channel), "player " + i);
+        }
+        
+        // Every channel got its own duplicate; the shared bytes are untouched
+        ByteBuf buffer = (ByteBuf) encoded.getBuffer();
+        assertEquals(1, buffer.refCnt());
+        assertEquals(0, buffer.readerIndex());
+    }
+    
+    @Test
+    void encodedBundleIsFramedWithDelimiters() throws Throwable {
+        TestPacket first = new TestPacket(1, "first");
+        TestPacket second = new TestPacket(2, "second");
+        TestPacket third = new TestPacket(3, "third");
+        
+        EmbeddedChannel perPlayer = newPlayChannel();
+        PacketSender reference = newSender(perPlayer);
+        for (TestPacket packet : List.of(DELIMITER, first, second, third, DELIMITER)) {
+            reference.send(packet);
+        }
+        byte[] expected = drain(perPlayer);
+        
+        // Encoded and plain packets mixed, as in a commit with one shared row
+        EmbeddedChannel shared = newPlayChannel();
+        List<Object> packets = List.of(encodeShared(shared, first), second, encodeShared(shared, third));
+        newSender(shared).sendAll(packets, true);
+        assertArrayEquals(expected, drain(shared));
+    }
+    
+    @Test
+    void unflushedWritesWaitForFlush() throws Throwable {
+        TestPacket packet = new TestPacket(1, "line");
+        
+        EmbeddedChannel perPlayer = newPlayChannel();
+        newSender(perPlayer).send(packet);
+        byte[] expected = drain(perPlayer);
+        
+        EmbeddedChannel channel = newPlayChannel();
+        PacketSender sender = newSender(channel);
+        sender.sendAll(List.of(encodeShared(channel, packet)), false);
+        assertTrue(channel.outboundMessages().isEmpty());
+        
+        sender.flush();
+        assertArrayEquals(expected, drain(channel));
+    }
+    
+    @Test
+    void channelWithoutPlayEncoderIsNotEncoded() throws Throwable {
+        TestPacket packet = new TestPacket(1, "line");
+        
+        EmbeddedChannel noEncoder = new EmbeddedChannel();
+        assertNull(PacketHelper.encodePacket(noEncoder, packet, TEST_ENCODER_CODEC));
+        
+        // Another plugin's handler under the same name
+        EmbeddedChannel replaced = new EmbeddedChannel();
+        replaced.pipeline().addLast("encoder", new LengthFieldPrepender(2));
+        assertNull(PacketHelper.encodePacket(replaced, packet, TEST_ENCODER_CODEC));
+    }
+    
+    @Test
+    void fallsBackToConnectionWhenBytesCannotBeWritten() throws Throwable {
+        TestPacket packet = new TestPacket(1, "line");
+        EncodedPacket encoded = encodeShared(newPlayChannel(), packet);
+        
+        List<Object> sent = new ArrayList<>();
+        PacketSender.Transport recorder = (connection, p, flush) -> sent.add(p);
+        
+        // No channel, and an object that is not a channel
+        new PacketSender(new Object(), null, null, recorder).send(encoded);
+        new PacketSender(new Object(), "not a channel", null, recorder).send(encoded);
+        
+        assertEquals(List.of(packet, packet), sent);
+    }
+}